@@ -2,22 +2,52 @@ package selmok.datagenerator;
 
 import selmok.datagenerator.customizers.LocaleContext;
 import selmok.datagenerator.customizers.SingletonLocaleContext;
+import selmok.datagenerator.dataproviders.BaseProvider;
 import selmok.datagenerator.dataproviders.CredentialsProvider;
 import selmok.datagenerator.dataproviders.EmailProvider;
 import selmok.datagenerator.dataproviders.NameProvider;
+import selmok.datagenerator.dataproviders.PersonProvider;
+import selmok.datagenerator.dataproviders.TemplateProvider;
 import selmok.datagenerator.services.RandomService;
+import selmok.datagenerator.utils.requests_handler.DatasetPreloader;
+import selmok.datagenerator.utils.requests_handler.DictionaryWatcher;
+import selmok.datagenerator.utils.requests_handler.RequestExecutor;
+import selmok.datagenerator.utils.requests_handler.RequestResolver;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
 
 /**
  * Root class, which is responsible for access to every fake data providers (e.g. NameProvider,
  * EmailProvider, CredentialsProvider, etc) and their initialization. It creates objects of the provider
  * classes and returns reference to them to access their methods easily, with no need to initialize
  * each and every provider separately in code, but at the same time does not limit to do it.
+ * Every provider is created only once, on the first request, and kept in ProviderRegistry of this
+ * DataGenerator, so the providers can be requested in the generation loops at no cost.
  */
 public class Generator {
+
+    /**
+     * The number of values of every kind, generated by warmUp() to make the JIT compile the generation paths.
+     */
+    private static final int WARM_UP_ITERATIONS = 2_000;
+
     private SingletonLocaleContext locale;
     private RandomService randomService;
+    private RandomService credentialsRandomService;
+
+    /**
+     * Providers of this DataGenerator, created on the first request and dropped when the locale or
+     * random service is changed.
+     */
+    private ProviderRegistry providers;
 
     /**
      * Creates the DataGenerator object, initialized with LocaleContext object to provide
@@ -71,20 +101,189 @@ public class Generator {
         this.randomService = new RandomService();
     }
 
+    /**
+     * Creates the DataGenerator object, initialized with LocaleContext object to provide
+     * country and language context for the fake data, and RandomService, backed by any random generator
+     * (e.g. RandomGeneratorFactory.of("L64X128MixRandom").create(seed)), used to generate the data.
+     */
+    public Generator(LocaleContext locale, RandomGenerator generator){
+        this.locale = SingletonLocaleContext.get(locale);
+        this.randomService = new RandomService(generator);
+    }
+
+    /**
+     * Creates the DataGenerator object with the random generator of the specified algorithm
+     * (e.g. "L64X128MixRandom", "Xoroshiro128PlusPlus", "SplittableRandom").
+     *
+     * @param locale    the country and language context for the fake data
+     * @param algorithm the name of the random generator algorithm
+     * @return DataGenerator with RandomService.of(algorithm)
+     * @throws IllegalArgumentException if the algorithm is not found
+     */
+    public static Generator of(LocaleContext locale, String algorithm){
+        return new Generator(SingletonLocaleContext.get(locale), RandomService.of(algorithm));
+    }
+
+    /**
+     * Creates the DataGenerator object with the random generator of the specified algorithm,
+     * seeded with the seed provided.
+     *
+     * @param locale    the country and language context for the fake data
+     * @param algorithm the name of the random generator algorithm
+     * @param seed      the seed of the random generator
+     * @return DataGenerator with RandomService.of(algorithm, seed)
+     * @throws IllegalArgumentException if the algorithm is not found
+     */
+    public static Generator of(LocaleContext locale, String algorithm, long seed){
+        return new Generator(SingletonLocaleContext.get(locale), RandomService.of(algorithm, seed));
+    }
+
+    /**
+     * Creates the DataGenerator object for the concurrent use: it can be shared by any number of threads
+     * (e.g. TestNG tests, run in parallel), as every thread generates values with its own random generator
+     * and all the shared state (locales, datasets) is read with no locks.
+     * The locale and random service of such DataGenerator should not be changed while it is in use.
+     *
+     * @param locale the country and language context for the fake data
+     * @return DataGenerator with RandomService.concurrent()
+     */
+    public static Generator concurrent(LocaleContext locale){
+        return new Generator(SingletonLocaleContext.get(locale), RandomService.concurrent());
+    }
+
+    /**
+     * Creates the DataGenerator object for the concurrent use with the seed, random generators of
+     * the threads are split from. Refer to concurrent(LocaleContext) for details.
+     *
+     * @param locale the country and language context for the fake data
+     * @param seed   the seed, the random generators of the threads are split from
+     * @return DataGenerator with RandomService.concurrent(seed)
+     */
+    public static Generator concurrent(LocaleContext locale, long seed){
+        return new Generator(SingletonLocaleContext.get(locale), RandomService.concurrent(seed));
+    }
+
+    /**
+     * Loads all the datasets for the locales provided (or for all the locales, if none is provided)
+     * in parallel on the common ForkJoinPool, so that generation calls, made after the loading is completed,
+     * do not read the source files. Refer to DatasetPreloader class for details.
+     *
+     * @param locales the locales to load the datasets for
+     * @return CompletableFuture, completed when all the datasets are loaded, or completed exceptionally
+     * with UncheckedIOException if any of the source files cannot be read
+     */
+    public static CompletableFuture<Void> preload(LocaleContext... locales){
+        return preload(ForkJoinPool.commonPool(), locales);
+    }
+
+    /**
+     * Loads all the datasets for the locales provided (or for all the locales, if none is provided)
+     * in parallel with the executor provided. Refer to preload(LocaleContext...) for details.
+     *
+     * @param executor the executor to load the datasets with
+     * @param locales  the locales to load the datasets for
+     * @return CompletableFuture, completed when all the datasets are loaded
+     */
+    public static CompletableFuture<Void> preload(Executor executor, LocaleContext... locales){
+        return DatasetPreloader.preload(locales.length == 0 ? DatasetPreloader.getAllLocales() : List.of(locales),
+                executor);
+    }
+
+    /**
+     * Loads all the datasets for the locales provided (or for all the locales, if none is provided) and waits
+     * until they are loaded (e.g. in the setup of the test suite). Refer to preload(LocaleContext...) for details.
+     *
+     * @param locales the locales to load the datasets for
+     * @throws java.util.concurrent.CompletionException if any of the source files cannot be read
+     */
+    public static void preloadAndWait(LocaleContext... locales){
+        preload(locales).join();
+    }
+
+    /**
+     * Starts watching the source json files in the project directory (src/main/resources/faker_date) and reloading
+     * the datasets of the changed files with no restart. Refer to DictionaryWatcher class for details.
+     *
+     * @return DictionaryWatcher, that should be closed to stop watching
+     * @throws IOException if the directories cannot be watched
+     */
+    public static DictionaryWatcher watchDictionaries() throws IOException {
+        return watchDictionaries(RequestResolver.getRootDirectory());
+    }
+
+    /**
+     * Starts watching the source json files in the directory provided (e.g. the shared directory, updated by
+     * the data team) and reloading the datasets of the changed files with no restart. The directory must have
+     * the same structure as faker_date (e.g. en/name/us_name.json). Refer to DictionaryWatcher class for details.
+     *
+     * @param root the root directory of the source json files
+     * @return DictionaryWatcher, that should be closed to stop watching
+     * @throws IOException if the directories cannot be watched
+     */
+    public static DictionaryWatcher watchDictionaries(Path root) throws IOException {
+        return DictionaryWatcher.start(root, RequestExecutor.getDatasetCache());
+    }
+
+    /**
+     * Loads all the datasets for the locale of this DataGenerator in background and then generates values of every
+     * kind (names, emails, passwords, person records, templates) with the separate random service, so that
+     * the JIT compiles the generation paths before the first measured call. Values generated by this
+     * DataGenerator are not affected.
+     *
+     * @return CompletableFuture, completed when the datasets are loaded and the generation paths are warmed up
+     */
+    public CompletableFuture<Void> warmUp(){
+        SingletonLocaleContext warmUpLocale = locale;
+
+        return preload(warmUpLocale.getLocale()).thenRunAsync(() -> {
+            Generator generator = new Generator(warmUpLocale, new RandomService(new SplittableRandom(0)));
+
+            for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+                generator.name().fullName();
+                generator.name().weightedFullName();
+                generator.email().getEmail();
+                generator.credentials().password(12, true, true, true);
+                generator.template().render("{first_name}.{last_name}{nn}@warm.up");
+            }
+
+            generator.person().persons(WARM_UP_ITERATIONS);
+        }, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Warms up this DataGenerator and waits until it is completed. Refer to warmUp() for details.
+     *
+     * @throws java.util.concurrent.CompletionException if any of the source files cannot be read
+     */
+    public void warmUpAndWait(){
+        warmUp().join();
+    }
+
+    /**
+     * Creates the DataGenerator object with already resolved locale and random service
+     * (e.g. for the blocks of records, generated by ParallelGenerator).
+     */
+    Generator(SingletonLocaleContext locale, RandomService randomService){
+        this.locale = locale;
+        this.randomService = randomService;
+    }
+
     /**
      * Returns the instance of NameProvider to enable names generation.
      *  Refer to NameProvider class for more information about possible methods.
      */
     public NameProvider name(){
-        return new NameProvider(locale, randomService);
+        return providers().name();
     }
 
     /**
      * Returns the instance of CredentialsProvider to enable credentials generation (emails, passwords, etc).
+     * It uses the RandomService, set for credentials (e.g. RandomService.secure()), if any, or the RandomService
+     * of this DataGenerator otherwise.
      *  Refer to CredentialsProvider class for more information about possible methods.
      */
     public CredentialsProvider credentials(){
-        return new CredentialsProvider(locale, randomService);
+        return providers().credentials();
     }
 
     /**
@@ -92,7 +291,54 @@ public class Generator {
      * full emails). Refer to EmailProvider class for more information about possible methods.
      */
     public EmailProvider email(){
-        return new EmailProvider(locale.getLocale().getCountry(), randomService);
+        return providers().email();
+    }
+
+    /**
+     * Returns the instance of PersonProvider to enable generation of person records, where all the fields
+     * (first name, last name, email, password) are consistent with each other, in the columnar form.
+     * Refer to PersonProvider class for more information about possible methods.
+     */
+    public PersonProvider person(){
+        return providers().person();
+    }
+
+    /**
+     * Returns the instance of TemplateProvider to enable generation of values by templates
+     * (e.g. "{first_name}.{last_name}{nn}@corp.test"), compiled only once and shared by all the generators.
+     * Refer to TemplateProvider and Template classes for more information about possible methods and syntax.
+     */
+    public TemplateProvider template(){
+        return providers().template();
+    }
+
+    /**
+     * Returns the instance of the provider of the class requested: one of the built-in providers or
+     * the third-party provider, which ProviderFactory is listed in META-INF/services or registered with
+     * ProviderRegistry.register (e.g. generator.provider(AddressProvider.class).streetName()).
+     * The provider is created on the first request and the same instance is returned until the locale
+     * or random service of this DataGenerator is changed.
+     *
+     * @param providerClass the class of the provider
+     * @return the provider of this DataGenerator
+     * @throws IllegalArgumentException if there is no ProviderFactory of the provider class
+     */
+    public <P extends BaseProvider> P provider(Class<P> providerClass){
+        return providers().get(providerClass);
+    }
+
+    /**
+     * Returns the registry of the providers of this DataGenerator, creating it on the first call.
+     */
+    private ProviderRegistry providers(){
+        ProviderRegistry registry = providers;
+
+        if(registry == null){
+            registry = new ProviderRegistry(locale, randomService, credentialsRandomService);
+            providers = registry;
+        }
+
+        return registry;
     }
 
     /**
@@ -105,11 +351,61 @@ public class Generator {
         return randomService;
     }
 
+    /**
+     * Returns the ParallelGenerator for the locale of this DataGenerator, that generates records in parallel
+     * with the random streams, split from the seed provided. The same seed always gives the same records,
+     * no matter how many cores are used. Refer to ParallelGenerator class for details.
+     *
+     * @param seed the seed of the random streams
+     * @return ParallelGenerator with the default block size
+     */
+    public ParallelGenerator parallel(long seed){
+        return new ParallelGenerator(locale, seed, ParallelGenerator.DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Returns the ParallelGenerator for the locale of this DataGenerator with the custom number of records,
+     * generated with one random stream. Records are reproducible only with the same seed and block size.
+     *
+     * @param seed      the seed of the random streams
+     * @param blockSize the number of records, generated with one random stream
+     * @return ParallelGenerator
+     * @throws IllegalArgumentException if the block size is not positive
+     */
+    public ParallelGenerator parallel(long seed, int blockSize){
+        return new ParallelGenerator(locale, seed, blockSize);
+    }
+
+    /**
+     * Returns the SeekableGenerator for the locale of this DataGenerator, that computes random values of
+     * every record directly from the seed and the record index, so that record with any index can be
+     * generated in O(1) time (e.g. seekable(seed).at(1_000_000).name().fullName()).
+     * Refer to SeekableGenerator class for details.
+     *
+     * @param seed the seed of the records
+     * @return SeekableGenerator
+     */
+    public SeekableGenerator seekable(long seed){
+        return new SeekableGenerator(locale, seed);
+    }
+
     public void setLocale(LocaleContext locale) {
         this.locale = SingletonLocaleContext.get(locale);
+        this.providers = null;
     }
 
     public void setRandomService(RandomService randomService) {
         this.randomService = randomService;
+        this.providers = null;
+    }
+
+    /**
+     * Sets the RandomService, used only for credentials (e.g. RandomService.secure() to generate
+     * passwords with cryptographically strong random generator). If it is null, credentials are generated
+     * with the RandomService of this DataGenerator.
+     */
+    public void setCredentialsRandomService(RandomService credentialsRandomService) {
+        this.credentialsRandomService = credentialsRandomService;
+        this.providers = null;
     }
 }
@@ -0,0 +1,126 @@
+package selmok.datagenerator;
+
+import selmok.datagenerator.customizers.SingletonLocaleContext;
+import selmok.datagenerator.services.RandomService;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * This class is responsible for deterministic parallel generation of fake records. It is created by
+ * Generator.parallel(seed) and generates records in blocks of the fixed size: every block gets its own
+ * Generator with the independent random stream, split from the SplittableRandom seeded with the seed
+ * provided, so that blocks can be generated by different threads with no shared random state.
+ *
+ * The random streams are assigned to blocks by block index, not by thread, and the records are returned
+ * in the order of their index, therefore the same seed and block size give exactly the same records
+ * no matter how many threads (cores) generate them.
+ *
+ * @author Cas
+ */
+public class ParallelGenerator {
+    public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    private final SingletonLocaleContext locale;
+    private final long seed;
+    private final int blockSize;
+
+    ParallelGenerator(SingletonLocaleContext locale, long seed, int blockSize) {
+        if(blockSize <= 0){
+            throw new IllegalArgumentException("Block size must be positive, but was: " + blockSize);
+        }
+
+        this.locale = locale;
+        this.seed = seed;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Returns parallel ordered stream of the records generated by the record factory, that is called once
+     * per record with the Generator of the block the record belongs to. The factory should use only the
+     * Generator provided to generate random values, otherwise the result is not reproducible.
+     * The stream is evaluated in the pool it is terminated in (ForkJoinPool.commonPool() by default).
+     *
+     * @param count         the number of records to generate
+     * @param recordFactory the function, that generates one record with the Generator provided
+     * @return parallel stream of the records in the order of their index
+     */
+    public <T> Stream<T> stream(int count, Function<Generator, T> recordFactory){
+        if(count < 0){
+            throw new IllegalArgumentException("Number of records must not be negative, but was: " + count);
+        }
+
+        RandomService[] blockRandoms = splitBlockRandoms(count / blockSize + (count % blockSize == 0 ? 0 : 1));
+
+        return IntStream.range(0, blockRandoms.length).parallel().boxed()
+                .flatMap(block -> generateBlock(blockRandoms[block],
+                        Math.min(blockSize, count - block * blockSize), recordFactory));
+    }
+
+    /**
+     * Generates the records in parallel in ForkJoinPool.commonPool() and returns them as the list
+     * in the order of their index. Refer to stream(int, Function) for details.
+     *
+     * @param count         the number of records to generate
+     * @param recordFactory the function, that generates one record with the Generator provided
+     * @return unmodifiable list of the records
+     */
+    public <T> List<T> generate(int count, Function<Generator, T> recordFactory){
+        return stream(count, recordFactory).toList();
+    }
+
+    /**
+     * Generates the records in parallel in the provided pool and returns them as the list in the order
+     * of their index. The result is the same as of generate(int, Function) for any pool.
+     *
+     * @param count         the number of records to generate
+     * @param recordFactory the function, that generates one record with the Generator provided
+     * @param pool          the pool to generate the records in
+     * @return unmodifiable list of the records
+     */
+    public <T> List<T> generate(int count, Function<Generator, T> recordFactory, ForkJoinPool pool){
+        return pool.submit(() -> stream(count, recordFactory).toList()).join();
+    }
+
+    /**
+     * Splits the random streams for the blocks from the seed. It is done sequentially, so that every
+     * block gets the same stream on every run.
+     */
+    private RandomService[] splitBlockRandoms(int blockCount){
+        RandomService root = new RandomService(new SplittableRandom(seed));
+        RandomService[] blockRandoms = new RandomService[blockCount];
+
+        for (int i = 0; i < blockCount; i++) {
+            blockRandoms[i] = root.split();
+        }
+
+        return blockRandoms;
+    }
+
+    private <T> Stream<T> generateBlock(RandomService blockRandom, int blockCount,
+                                        Function<Generator, T> recordFactory){
+        Generator generator = new Generator(locale, blockRandom);
+        Object[] records = new Object[blockCount];
+
+        for (int i = 0; i < blockCount; i++) {
+            records[i] = recordFactory.apply(generator);
+        }
+
+        @SuppressWarnings("unchecked")
+        Stream<T> blockRecords = (Stream<T>) Arrays.stream(records);
+        return blockRecords;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+}
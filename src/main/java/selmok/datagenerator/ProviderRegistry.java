@@ -0,0 +1,227 @@
+package selmok.datagenerator;
+
+import selmok.datagenerator.customizers.SingletonLocaleContext;
+import selmok.datagenerator.dataproviders.BaseProvider;
+import selmok.datagenerator.dataproviders.CredentialsProvider;
+import selmok.datagenerator.dataproviders.EmailProvider;
+import selmok.datagenerator.dataproviders.NameProvider;
+import selmok.datagenerator.dataproviders.PersonProvider;
+import selmok.datagenerator.dataproviders.ProviderFactory;
+import selmok.datagenerator.dataproviders.TemplateProvider;
+import selmok.datagenerator.services.RandomService;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is the registry of the fake data providers of one DataGenerator and locale. Every provider is created
+ * lazily on the first request and then the same instance is returned, so that generation loops
+ * (e.g. generator.name().firstName() in a loop) create no providers. Providers hold no state except the locale
+ * and the random service, so the same instance can be used by any number of threads.
+ *
+ * Built-in providers are kept in the fixed slots, so they are returned with no lookup. Other providers are
+ * created by ProviderFactory, found with ServiceLoader or registered with register(ProviderFactory), and cached
+ * by their class. Factories are found with ServiceLoader only on the first request of the provider, that is not
+ * built-in, and the broken entry of META-INF/services is skipped with the warning, so it never affects
+ * the built-in providers or the other factories.
+ *
+ * @author Cas
+ */
+public final class ProviderRegistry {
+    private static final int NAME = 0;
+    private static final int EMAIL = 1;
+    private static final int CREDENTIALS = 2;
+    private static final int PERSON = 3;
+    private static final int TEMPLATE = 4;
+    private static final int BUILT_IN_COUNT = 5;
+
+    /**
+     * Factories of the providers, that are not built-in, by the class of the provider.
+     */
+    private static final ConcurrentHashMap<Class<?>, ProviderFactory<?>> FACTORIES = new ConcurrentHashMap<>();
+
+    private static final Logger ISSUE_LOG = LogManager.getLogger(ProviderRegistry.class);
+
+    private static volatile boolean servicesLoaded;
+
+    private final SingletonLocaleContext locale;
+    private final RandomService random;
+    private final RandomService credentialsRandom;
+    private final BaseProvider[] builtInProviders = new BaseProvider[BUILT_IN_COUNT];
+    private final ConcurrentHashMap<Class<?>, BaseProvider> providers = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the registry of the providers for the locale and random services provided.
+     *
+     * @param locale            the country and language context for the fake data
+     * @param random            the random service of the providers
+     * @param credentialsRandom the random service of CredentialsProvider, or null to use the random service
+     *                          of the providers
+     */
+    ProviderRegistry(SingletonLocaleContext locale, RandomService random, RandomService credentialsRandom) {
+        this.locale = locale;
+        this.random = random;
+        this.credentialsRandom = credentialsRandom == null ? random : credentialsRandom;
+    }
+
+    /**
+     * Registers the factory of the provider, so that it can be requested by its class from any registry.
+     * If the factory of the same provider class is already registered, it is replaced, but providers,
+     * already created by the previous factory, stay cached in their registries.
+     *
+     * @param factory the factory of the provider
+     * @throws IllegalArgumentException if the factory creates one of the built-in providers
+     */
+    public static void register(ProviderFactory<?> factory){
+        Class<?> providerClass = factory.getProviderClass();
+
+        if(builtInSlot(providerClass) >= 0){
+            throw new IllegalArgumentException("Built-in provider " + providerClass.getName()
+                    + " cannot be replaced");
+        }
+
+        FACTORIES.put(providerClass, factory);
+    }
+
+    /**
+     * Returns the provider of the class requested, creating it on the first request.
+     *
+     * @param providerClass the class of the provider
+     * @return the provider, cached in this registry
+     * @throws IllegalArgumentException if there is no factory of the provider
+     */
+    public <P extends BaseProvider> P get(Class<P> providerClass){
+        int slot = builtInSlot(providerClass);
+
+        if(slot >= 0){
+            return providerClass.cast(getBuiltIn(slot));
+        }
+
+        BaseProvider provider = providers.get(providerClass);
+
+        if(provider == null){
+            provider = providers.computeIfAbsent(providerClass, this::createProvider);
+        }
+
+        return providerClass.cast(provider);
+    }
+
+    public NameProvider name(){
+        return (NameProvider) getBuiltIn(NAME);
+    }
+
+    public EmailProvider email(){
+        return (EmailProvider) getBuiltIn(EMAIL);
+    }
+
+    public CredentialsProvider credentials(){
+        return (CredentialsProvider) getBuiltIn(CREDENTIALS);
+    }
+
+    public PersonProvider person(){
+        return (PersonProvider) getBuiltIn(PERSON);
+    }
+
+    public TemplateProvider template(){
+        return (TemplateProvider) getBuiltIn(TEMPLATE);
+    }
+
+    /**
+     * Returns the built-in provider from its slot, creating it if the slot is empty. If several threads
+     * create the provider at once, any of the instances may be cached: they are all equivalent.
+     */
+    private BaseProvider getBuiltIn(int slot){
+        BaseProvider provider = builtInProviders[slot];
+
+        if(provider == null){
+            provider = createBuiltIn(slot);
+            builtInProviders[slot] = provider;
+        }
+
+        return provider;
+    }
+
+    private BaseProvider createBuiltIn(int slot){
+        return switch (slot) {
+            case NAME -> new NameProvider(locale, random);
+            case EMAIL -> new EmailProvider(locale.getLocale().getCountry(), random);
+            case CREDENTIALS -> new CredentialsProvider(locale, credentialsRandom);
+            case PERSON -> new PersonProvider(locale, random);
+            default -> new TemplateProvider(locale, random);
+        };
+    }
+
+    private BaseProvider createProvider(Class<?> providerClass){
+        if(!servicesLoaded){
+            loadServices();
+        }
+
+        ProviderFactory<?> factory = FACTORIES.get(providerClass);
+
+        if(factory == null){
+            throw new IllegalArgumentException("There is no ProviderFactory of " + providerClass.getName()
+                    + ": it should be listed in META-INF/services/" + ProviderFactory.class.getName()
+                    + " or registered with ProviderRegistry.register");
+        }
+
+        return factory.create(locale, random);
+    }
+
+    /**
+     * Adds the factories, found with ServiceLoader, to the registered ones (registered factories are not replaced).
+     * The entry, that cannot be loaded or instantiated, is logged with WARN level and skipped.
+     */
+    private static synchronized void loadServices(){
+        if(servicesLoaded){
+            return;
+        }
+
+        @SuppressWarnings("rawtypes")
+        Iterator<ProviderFactory> factories = ServiceLoader.load(ProviderFactory.class).iterator();
+
+        while(true){
+            try {
+                if(!factories.hasNext()){
+                    break;
+                }
+
+                ProviderFactory<?> factory = factories.next();
+                FACTORIES.putIfAbsent(factory.getProviderClass(), factory);
+            } catch (ServiceConfigurationError e) {
+                ISSUE_LOG.log(Level.WARN, "ProviderFactory from META-INF/services/" + ProviderFactory.class.getName()
+                        + " is skipped: " + e.getMessage());
+            }
+        }
+
+        servicesLoaded = true;
+    }
+
+    private static int builtInSlot(Class<?> providerClass){
+        if(providerClass == NameProvider.class){
+            return NAME;
+        }
+
+        if(providerClass == EmailProvider.class){
+            return EMAIL;
+        }
+
+        if(providerClass == CredentialsProvider.class){
+            return CREDENTIALS;
+        }
+
+        if(providerClass == PersonProvider.class){
+            return PERSON;
+        }
+
+        return providerClass == TemplateProvider.class ? TEMPLATE : -1;
+    }
+
+    public SingletonLocaleContext getLocale() {
+        return locale;
+    }
+}
@@ -0,0 +1,62 @@
+package selmok.datagenerator;
+
+import selmok.datagenerator.customizers.SingletonLocaleContext;
+import selmok.datagenerator.services.CounterRandomGenerator;
+import selmok.datagenerator.services.RandomService;
+
+import java.util.function.Function;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * This class is responsible for seekable generation of fake records. It is created by Generator.seekable(seed)
+ * and returns the Generator for any record index, which random values are computed directly from
+ * (seed, record index, counter) by CounterRandomGenerator. Therefore, the record with any index is generated
+ * in O(1) time, it is always the same for the same seed, and any slice of records can be generated
+ * on any machine independently with no coordination.
+ *
+ * @author Cas
+ */
+public class SeekableGenerator {
+    private final SingletonLocaleContext locale;
+    private final long seed;
+
+    SeekableGenerator(SingletonLocaleContext locale, long seed) {
+        this.locale = locale;
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the Generator for the record with the specified index. Every call returns the new Generator,
+     * that produces the same values, so the record is the same as long as it is generated with the
+     * same sequence of calls (e.g. at(i).name().fullName()).
+     *
+     * @param index the index of the record
+     * @return Generator for the record
+     */
+    public Generator at(long index){
+        return new Generator(locale, new RandomService(new CounterRandomGenerator(seed, index)));
+    }
+
+    /**
+     * Returns the stream of the records from the specified index (inclusive) to the specified index (exclusive),
+     * generated by the record factory, that is called once per record with the Generator of the record.
+     * The stream is sequential, but can be turned parallel, as the records do not depend on each other.
+     *
+     * @param from          the index of the first record (inclusive)
+     * @param to            the index of the last record (exclusive)
+     * @param recordFactory the function, that generates one record with the Generator provided
+     * @return stream of the records in the order of their index
+     */
+    public <T> Stream<T> slice(long from, long to, Function<Generator, T> recordFactory){
+        if(from > to){
+            throw new IllegalArgumentException("Slice start " + from + " is bigger then its end " + to);
+        }
+
+        return LongStream.range(from, to).mapToObj(index -> recordFactory.apply(at(index)));
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+}
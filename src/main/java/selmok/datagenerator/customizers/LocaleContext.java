@@ -2,6 +2,7 @@ package selmok.datagenerator.customizers;
 
 import selmok.datagenerator.enums.Countries;
 import selmok.datagenerator.enums.Languages;
+import selmok.datagenerator.services.Alphabet;
 import selmok.datagenerator.utils.message_customizers.ExceptionsHandlerUtils;
 
 import java.util.Objects;
@@ -14,22 +15,46 @@ import java.util.Objects;
  * names, streets, cities, etc. specific for the provided country
  * will be returned as result, translated into corresponding language
  *
+ * LocaleContext is immutable. Every pair of country and language has the dense ordinal
+ * (index in the table of all Countries x Languages pairs), that is used as its hashcode and
+ * to look up everything, resolved for the locale, by array index. The instance, shared for every
+ * pair, is returned by of(Countries, Languages) or intern().
  */
 public class LocaleContext {
-    private Countries country;
-    private Languages language;
+
+    /**
+     * Number of all the possible locales (pairs of country and language), which is the size of the tables,
+     * indexed by the locale ordinal.
+     */
+    public static final int LOCALE_COUNT = Countries.values().length * Languages.values().length;
+
+    private static final int LANGUAGE_COUNT = Languages.values().length;
 
     private static final Countries  DEFAULT_COUNTRY = Countries.USA;
 
     private static final Languages DEFAULT_LANGUAGE = Languages.ENGLISH;
 
+    private static final LocaleContext[] INTERNED_LOCALES = new LocaleContext[LOCALE_COUNT];
+
+    static {
+        for (Countries country : Countries.values()) {
+            for (Languages language : Languages.values()) {
+                LocaleContext locale = new LocaleContext(country, language);
+                INTERNED_LOCALES[locale.ordinal] = locale;
+            }
+        }
+    }
+
+    private final Countries country;
+    private final Languages language;
+    private final int ordinal;
+
     /**
      * Constructor,
      * that initializes LocaleContext object with default language and country (english and US)
      */
     public LocaleContext() {
-        this.country = DEFAULT_COUNTRY;
-        this.language = DEFAULT_LANGUAGE;
+        this(DEFAULT_COUNTRY, DEFAULT_LANGUAGE);
     }
 
     /** Constructor, that initializes LocaleContext object with custom country (Countries.class instance)
@@ -39,6 +64,7 @@ public class LocaleContext {
         ExceptionsHandlerUtils.checkObjectsForNullAndThrowException(country, language);
         this.country = country;
         this.language = language;
+        this.ordinal = country.ordinal() * LANGUAGE_COUNT + language.ordinal();
     }
 
     /**
@@ -47,9 +73,7 @@ public class LocaleContext {
      * For example: if country is France, then language will be french
      */
     public LocaleContext(Countries country) {
-        ExceptionsHandlerUtils.checkObjectsForNullAndThrowException(country);
-        this.country = country;
-        this.language = CountryLangMatcher.matchLang(country);
+        this(country, CountryLangMatcher.matchLang(requireCountry(country)));
     }
 
     /**
@@ -58,9 +82,48 @@ public class LocaleContext {
      * For example, if language is german, then country is Germany.
      */
     public LocaleContext(Languages language) {
+        this(CountryLangMatcher.matchCountry(requireLanguage(language)), language);
+    }
+
+    private static Countries requireCountry(Countries country){
+        ExceptionsHandlerUtils.checkObjectsForNullAndThrowException(country);
+        return country;
+    }
+
+    private static Languages requireLanguage(Languages language){
         ExceptionsHandlerUtils.checkObjectsForNullAndThrowException(language);
-        this.language = language;
-        this.country = CountryLangMatcher.matchCountry(language);
+        return language;
+    }
+
+    /**
+     * Returns the shared LocaleContext instance for the country and language provided.
+     *
+     * @return LocaleContext
+     * @throws NullPointerException if the country or the language is null
+     */
+    public static LocaleContext of(Countries country, Languages language){
+        Objects.requireNonNull(country, "country");
+        Objects.requireNonNull(language, "language");
+        return INTERNED_LOCALES[country.ordinal() * LANGUAGE_COUNT + language.ordinal()];
+    }
+
+    /**
+     * Returns the shared LocaleContext instance, equal to this one.
+     *
+     * @return LocaleContext
+     */
+    public LocaleContext intern(){
+        return INTERNED_LOCALES[ordinal];
+    }
+
+    /**
+     * Returns the dense ordinal of the locale: index of its country and language pair in the table
+     * of all the locales, from 0 (inclusive) to LOCALE_COUNT (exclusive).
+     *
+     * @return int
+     */
+    public int ordinal(){
+        return ordinal;
     }
 
     /**
@@ -85,6 +148,20 @@ public class LocaleContext {
         return country;
     }
 
+    public Languages getLanguage() {
+        return language;
+    }
+
+    /**
+     * Returns the alphabet of the language of the locale (e.g. cyrillic letters for ukrainian), used to generate
+     * random strings and passwords in its script. The alphabets are built once per language.
+     *
+     * @return Alphabet
+     */
+    public Alphabet getAlphabet() {
+        return Alphabet.of(language);
+    }
+
     /**
      * Returns String representation of the object,
      * that holds its content, specifically
@@ -102,9 +179,9 @@ public class LocaleContext {
      * to compare an objects.
      *
      * It compares two LocaleContext by its content,
-     * so that if the country and the name of the first object
-     * equals to the country and name of the second object,
-     * objects considered as equal and true will be returned.
+     * so that if the country and the language of the first object
+     * equals to the country and language of the second object
+     * (so are their ordinals), objects considered as equal and true will be returned.
      *
      * If object provided is not the LocaleContext object or is null,
      * then false is returned.
@@ -116,27 +193,18 @@ public class LocaleContext {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         LocaleContext that = (LocaleContext) o;
-        return getCountryCode() == that.getCountryCode() && getLanguageCode() == that.getLanguageCode();
+        return ordinal == that.ordinal;
     }
 
     /**
      * Overrides standard Object.class method.
-     * Uses the object content (String representation of both country and language)
-     * to generate the hashcode
+     * Uses the ordinal of the locale as the hashcode, so that it is never computed.
      *
      * @return int
      */
     @Override
     public int hashCode() {
-        return Objects.hash(getCountryCode(), getLanguageCode());
-    }
-
-    public void setCountry(Countries country) {
-        this.country = country;
-    }
-
-    public void setLanguage(Languages language) {
-        this.language = language;
+        return ordinal;
     }
 
     /**
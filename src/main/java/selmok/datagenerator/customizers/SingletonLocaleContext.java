@@ -1,17 +1,34 @@
 package selmok.datagenerator.customizers;
 
-import java.util.HashMap;
+import selmok.datagenerator.enums.Countries;
+import selmok.datagenerator.enums.Languages;
 
 /**
  * This is the Singleton implementation for LocaleContext.class.
  * It ensures that only one SingletonLocaleContext exists per
  * LocaleContext. Therefore, same LocaleContext is always used
  * in the program without being re-initialized and re-created.
+ *
+ * The instances for all the locales are created once and stored in the table, indexed by
+ * the locale ordinal, so that the lookup is the single array load with no hashing and locking.
  */
 public class SingletonLocaleContext {
-    private LocaleContext locale = null;
+    private final LocaleContext locale;
 
-    private static  final HashMap<LocaleContext, SingletonLocaleContext> EXISTENT_LOCALES = new HashMap<>();
+    /**
+     * The registry of existent locales, indexed by LocaleContext.ordinal().
+     */
+    private static final SingletonLocaleContext[] EXISTENT_LOCALES =
+            new SingletonLocaleContext[LocaleContext.LOCALE_COUNT];
+
+    static {
+        for (Countries country : Countries.values()) {
+            for (Languages language : Languages.values()) {
+                LocaleContext locale = LocaleContext.of(country, language);
+                EXISTENT_LOCALES[locale.ordinal()] = new SingletonLocaleContext(locale);
+            }
+        }
+    }
 
     /**
      * Private constructor to implement Singleton pattern correspondingly.
@@ -21,9 +38,10 @@ public class SingletonLocaleContext {
     }
 
     /**
-     * Retrieves or creates a SingletonLocaleContext instance associated with the provided LocaleContext.
+     * Retrieves the SingletonLocaleContext instance associated with the provided LocaleContext.
+     * It is thread-safe, so that providers can be created by several threads (e.g. by ParallelGenerator).
      *
-     * @param locale The LocaleContext for which the SingletonLocaleContext instance is to be retrieved or created.
+     * @param locale The LocaleContext for which the SingletonLocaleContext instance is to be retrieved.
      * @return The SingletonLocaleContext instance associated with the provided LocaleContext.
      */
     public static SingletonLocaleContext get(LocaleContext locale){
@@ -32,17 +50,20 @@ public class SingletonLocaleContext {
             return null;
         }
 
-         SingletonLocaleContext localeService = EXISTENT_LOCALES.get(locale);
-
-         if(localeService == null){
-             localeService = new SingletonLocaleContext(locale);
-             EXISTENT_LOCALES.put(locale, localeService);
-         }
-
-         return localeService;
+        return EXISTENT_LOCALES[locale.ordinal()];
     }
 
+    /**
+     * Returns the shared (interned) LocaleContext of this SingletonLocaleContext.
+     */
     public LocaleContext getLocale() {
         return locale;
     }
+
+    /**
+     * Returns the ordinal of the locale, that indexes the tables of everything resolved for the locale.
+     */
+    public int ordinal() {
+        return locale.ordinal();
+    }
 }
@@ -12,10 +12,14 @@ import org.apache.logging.log4j.Logger;
  * @author Cas
  */
 public class BaseProvider {
-    private SingletonLocaleContext locale;
-    private RandomService random;
+    private final SingletonLocaleContext locale;
+    private final RandomService random;
 
-    private final Logger ISSUE_LOG = LogManager.getLogger(this);
+    /**
+     * Logger of the provider, resolved on the first issue only, so that creation of the provider
+     * does not pay for the logger lookup.
+     */
+    private Logger ISSUE_LOG;
 
     /**
      * Common constructor for all faker data providers.
@@ -47,6 +51,10 @@ public class BaseProvider {
      * Returns Logger, initialized for BaseProvider and inherited by other providers.
      */
     public Logger getISSUE_LOG() {
+        if(ISSUE_LOG == null){
+            ISSUE_LOG = LogManager.getLogger(getClass());
+        }
+
         return ISSUE_LOG;
     }
 }
@@ -2,6 +2,7 @@ package selmok.datagenerator.dataproviders;
 
 import selmok.datagenerator.customizers.SingletonLocaleContext;
 import selmok.datagenerator.services.RandomService;
+import selmok.datagenerator.utils.unique.UniqueSequence;
 
 /**
  * Provides methods for generating credentials (e.g. emails, passwords, etc),
@@ -9,19 +10,31 @@ import selmok.datagenerator.services.RandomService;
  */
 public class CredentialsProvider extends BaseProvider{
 
+    /**
+     * Cryptographically strong random services for secure passwords, one per thread, so that the block
+     * of entropy, pulled from SecureRandom, is reused by all the providers of the thread.
+     */
+    private static final ThreadLocal<RandomService> SECURE_RANDOM = ThreadLocal.withInitial(RandomService::secure);
+
+    private EmailProvider email;
+
     public CredentialsProvider(SingletonLocaleContext locale, RandomService random) {
         super(locale, random);
     }
 
     /**
-     * Creates a new instance of EmailProvider with the current locale and random service.
-     * The instance can be further used to generate the email address with different level
+     * Returns the instance of EmailProvider with the current locale and random service, created on the first
+     * call and then reused. The instance can be further used to generate the email address with different level
      * of customization.
      *
-     * @return A new EmailProvider instance.
+     * @return EmailProvider instance of this provider.
      */
     public EmailProvider email(){
-        return new EmailProvider(getLocale().getLocale().getCountry(), getRandom());
+        if(email == null){
+            email = new EmailProvider(getLocale().getLocale().getCountry(), getRandom());
+        }
+
+        return email;
     }
 
     /**
@@ -37,11 +50,137 @@ public class CredentialsProvider extends BaseProvider{
         return getRandom().randomString(length, upperLetters, numbers, specialChars);
     }
 
+    /**
+     * Generates a random password with the specified parameters, where letters are taken from the alphabet of
+     * the language of the locale (e.g. cyrillic letters for ukrainian), to check how the application handles
+     * non-ASCII credentials. Numbers and special characters are the same as in password.
+     *
+     * @param length The length of the password in code points.
+     * @param upperLetters If true, include upper case letters.
+     * @param numbers If true, include numbers.
+     * @param specialChars If true, include special characters.
+     * @return The generated password.
+     */
+    public String localizedPassword(int length, boolean upperLetters, boolean numbers, boolean specialChars){
+        return getRandom().randomString(getLocale().getLocale().getAlphabet(), length, upperLetters, numbers,
+                specialChars);
+    }
 
+    /**
+     * Generates the specified number of random passwords in the script of the locale language.
+     * Refer to localizedPassword and passwords(int, int, boolean, boolean, boolean) for details.
+     *
+     * @param count The number of passwords to generate.
+     * @param length The length of every password in code points.
+     * @param upperLetters If true, include upper case letters.
+     * @param numbers If true, include numbers.
+     * @param specialChars If true, include special characters.
+     * @return An array of generated passwords.
+     */
+    public String[] localizedPasswords(int count, int length, boolean upperLetters, boolean numbers,
+                                       boolean specialChars){
+        String[] target = new String[count];
+        getRandom().randomStrings(target, 0, count, getLocale().getLocale().getAlphabet(), length, upperLetters,
+                numbers, specialChars);
+        return target;
+    }
 
+    /**
+     * Generates the specified number of random passwords with the specified parameters.
+     * The character source is prepared only once for all the passwords, so this method is much
+     * cheaper than calling password in a loop, while the passwords generated are the same.
+     *
+     * @param count The number of passwords to generate.
+     * @param length The length of every password.
+     * @param upperLetters If true, include upper case letters.
+     * @param numbers If true, include numbers.
+     * @param specialChars If true, include special characters.
+     * @return An array of generated passwords.
+     */
+    public String[] passwords(int count, int length, boolean upperLetters, boolean numbers, boolean specialChars){
+        return passwords(new String[count], length, upperLetters, numbers, specialChars);
+    }
 
+    /**
+     * Fills the provided array with random passwords with the specified parameters.
+     * Refer to passwords(int, int, boolean, boolean, boolean) for details.
+     *
+     * @param target The array to fill with passwords.
+     * @param length The length of every password.
+     * @param upperLetters If true, include upper case letters.
+     * @param numbers If true, include numbers.
+     * @param specialChars If true, include special characters.
+     * @return The target array.
+     */
+    public String[] passwords(String[] target, int length, boolean upperLetters, boolean numbers,
+                              boolean specialChars){
+        getRandom().randomStrings(target, 0, target.length, length, upperLetters, numbers, specialChars);
+        return target;
+    }
 
+    /**
+     * Generates a random password with the specified parameters, using cryptographically strong random generator
+     * (SecureRandom, pulled in large blocks, with unbiased mapping to the characters) instead of the RandomService
+     * of this provider. It should be used for passwords of real accounts (e.g. on staging).
+     *
+     * @param length The length of the password.
+     * @param upperLetters If true, include upper case letters.
+     * @param numbers If true, include numbers.
+     * @param specialChars If true, include special characters.
+     * @return The generated password.
+     */
+    public String securePassword(int length, boolean upperLetters, boolean numbers, boolean specialChars){
+        return SECURE_RANDOM.get().randomString(length, upperLetters, numbers, specialChars);
+    }
 
+    /**
+     * Generates the specified number of secure random passwords with the specified parameters.
+     * Refer to securePassword for details.
+     *
+     * @param count The number of passwords to generate.
+     * @param length The length of every password.
+     * @param upperLetters If true, include upper case letters.
+     * @param numbers If true, include numbers.
+     * @param specialChars If true, include special characters.
+     * @return An array of generated passwords.
+     */
+    public String[] securePasswords(int count, int length, boolean upperLetters, boolean numbers,
+                                    boolean specialChars){
+        return securePasswords(new String[count], length, upperLetters, numbers, specialChars);
+    }
 
+    /**
+     * Fills the provided array with secure random passwords with the specified parameters.
+     * Refer to securePassword for details.
+     *
+     * @param target The array to fill with passwords.
+     * @param length The length of every password.
+     * @param upperLetters If true, include upper case letters.
+     * @param numbers If true, include numbers.
+     * @param specialChars If true, include special characters.
+     * @return The target array.
+     */
+    public String[] securePasswords(String[] target, int length, boolean upperLetters, boolean numbers,
+                                    boolean specialChars){
+        SECURE_RANDOM.get().randomStrings(target, 0, target.length, length, upperLetters, numbers, specialChars);
+        return target;
+    }
 
+    /**
+     * Returns the sequence of unique passwords with the specified parameters: all the passwords, that can be
+     * generated with the parameters, in random order, defined by the RandomService of this provider.
+     * Every password is returned only once, until the sequence is exhausted, with no need to store
+     * the passwords already returned.
+     *
+     * @param length The length of every password.
+     * @param upperLetters If true, include upper case letters.
+     * @param numbers If true, include numbers.
+     * @param specialChars If true, include special characters.
+     * @return UniqueSequence of passwords.
+     */
+    public UniqueSequence uniquePasswords(int length, boolean upperLetters, boolean numbers, boolean specialChars){
+        return new UniqueSequence(RandomService.countStrings(length, upperLetters, numbers, specialChars),
+                getRandom().nextLong(), index -> RandomService.stringAt(index, length, upperLetters, numbers,
+                        specialChars));
+    }
 }
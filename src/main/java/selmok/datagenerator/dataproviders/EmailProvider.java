@@ -5,6 +5,7 @@ import selmok.datagenerator.customizers.SingletonLocaleContext;
 import selmok.datagenerator.enums.Countries;
 import selmok.datagenerator.enums.Languages;
 import selmok.datagenerator.services.RandomService;
+import selmok.datagenerator.utils.unique.UniqueSequence;
 
 /**
  * Provides methods for generating email addresses, extending the functionality of the BaseProvider class.
@@ -24,12 +25,22 @@ public class EmailProvider extends BaseProvider{
      * Using the BaseProvider.class constructor, initializes the instance of EmailProvider
      * with SingletonLocaleContext to define country and language for which data will be generated
      * and RandomService settings to use (e.g. random seed).
-     * Apart from that, initializes the NameProvider instance to generate emails with full names as
-     * local part.
+     * NameProvider, used to generate emails with full names as local part, is created on the first
+     * such email only.
      */
     public EmailProvider(Countries country, RandomService random) {
         super(constructEmailLocaleContext(country), random);
-        this.name = new NameProvider(constructEmailLocaleContext(country), random);
+    }
+
+    /**
+     * Returns NameProvider with the locale and random service of this provider, creating it on the first call.
+     */
+    private NameProvider nameProvider(){
+        if(name == null){
+            name = new NameProvider(getLocale(), getRandom());
+        }
+
+        return name;
     }
 
     /**
@@ -64,9 +75,7 @@ public class EmailProvider extends BaseProvider{
      * @return The generated local part based on the full name with the specified separator.
      */
     public String getEmailLocalePartAsFullName(String nameSeparator){
-        String fullName = name.fullName();
-        String[] splittedStr = fullName.split(" ");
-        return splittedStr[0] + nameSeparator + splittedStr[1];
+        return nameProvider().name().join(nameSeparator);
     }
 
     /**
@@ -77,8 +86,7 @@ public class EmailProvider extends BaseProvider{
      * @return The generated local part based on the full name with an underscore separator.
      */
     public String getEmailLocalePartAsFullName(){
-        String fullName = name.fullName();
-        return fullName.replace(" ", "_");
+        return getEmailLocalePartAsFullName("_");
     }
 
     /**
@@ -141,6 +149,117 @@ public class EmailProvider extends BaseProvider{
         return getEmailLocalPart() + domain;
     }
 
+    /**
+     * Generates the specified number of random email addresses with the specified parameters for the local part
+     * and randomly generated domain names. The character sources are prepared only once for all the addresses,
+     * so this method is much cheaper than calling getEmail(boolean, boolean) in a loop.
+     *
+     * @param count The number of email addresses to generate.
+     * @param upperLettersInLocalPart If true, include upper case letters in the local part.
+     * @param numbersInLocalPart If true, include numbers in the local part.
+     * @return An array of generated email addresses.
+     */
+    public String[] emails(int count, boolean upperLettersInLocalPart, boolean numbersInLocalPart){
+        return emails(new String[count], upperLettersInLocalPart, numbersInLocalPart);
+    }
+
+    /**
+     * Generates the specified number of random email addresses with the specified parameters for the local part
+     * and a custom domain. Refer to emails(int, boolean, boolean) for details.
+     *
+     * @param count The number of email addresses to generate.
+     * @param upperLettersInLocalPart If true, include upper case letters in the local part.
+     * @param numbersInLocalPart If true, include numbers in the local part.
+     * @param domain The custom domain name for the email addresses.
+     * @return An array of generated email addresses with the specified domain.
+     */
+    public String[] emails(int count, boolean upperLettersInLocalPart, boolean numbersInLocalPart, String domain){
+        return emails(new String[count], upperLettersInLocalPart, numbersInLocalPart, domain);
+    }
+
+    /**
+     * Fills the provided array with random email addresses with randomly generated domain names.
+     * Refer to emails(int, boolean, boolean) for details.
+     *
+     * @param target The array to fill with email addresses.
+     * @param upperLettersInLocalPart If true, include upper case letters in the local part.
+     * @param numbersInLocalPart If true, include numbers in the local part.
+     * @return The target array.
+     */
+    public String[] emails(String[] target, boolean upperLettersInLocalPart, boolean numbersInLocalPart){
+        return emails(target, upperLettersInLocalPart, numbersInLocalPart, null);
+    }
+
+    /**
+     * Fills the provided array with random email addresses with a custom domain.
+     * Every address is written into one reused buffer, so only the address itself is allocated, and the addresses
+     * are the same as generated by calling getEmail(boolean, boolean, String) (or getEmail(boolean, boolean),
+     * if the domain is null) for every element with the same random service.
+     *
+     * @param target The array to fill with email addresses.
+     * @param upperLettersInLocalPart If true, include upper case letters in the local part.
+     * @param numbersInLocalPart If true, include numbers in the local part.
+     * @param domain The custom domain name for the email addresses, or null to generate random domain names.
+     * @return The target array.
+     */
+    public String[] emails(String[] target, boolean upperLettersInLocalPart, boolean numbersInLocalPart,
+                           String domain){
+        RandomService random = getRandom();
+        StringBuilder email = new StringBuilder(domain == null ? 17 : 8 + domain.length());
+
+        for (int i = 0; i < target.length; i++) {
+            email.setLength(0);
+            random.randomString(email, 8, upperLettersInLocalPart, numbersInLocalPart, false);
+
+            if(domain == null){
+                random.randomString(email.append('@'), 4, false, false, false).append(".com");
+            }
+
+            else{
+                email.append(domain);
+            }
+
+            target[i] = email.toString();
+        }
+
+        return target;
+    }
+
+    /**
+     * Returns the sequence of unique email addresses with the specified parameters for the local part
+     * and randomly generated domain names: all the combinations of local parts and domain names in random order,
+     * defined by the RandomService of this provider. Every address is returned only once, until the sequence
+     * is exhausted, with no need to store the addresses already returned.
+     *
+     * @param upperLettersInLocalPart If true, include upper case letters in the local part.
+     * @param numbersInLocalPart If true, include numbers in the local part.
+     * @return UniqueSequence of email addresses.
+     */
+    public UniqueSequence uniqueEmails(boolean upperLettersInLocalPart, boolean numbersInLocalPart){
+        long localParts = RandomService.countStrings(8, upperLettersInLocalPart, numbersInLocalPart, false);
+        long domainNames = RandomService.countStrings(4, false, false, false);
+        long size = localParts > Long.MAX_VALUE / domainNames ? Long.MAX_VALUE : localParts * domainNames;
+
+        return new UniqueSequence(size, getRandom().nextLong(), index -> RandomService.stringAt(index % localParts,
+                8, upperLettersInLocalPart, numbersInLocalPart, false)
+                + "@" + RandomService.stringAt(index / localParts, 4, false, false, false) + ".com");
+    }
+
+    /**
+     * Returns the sequence of unique email addresses with the specified parameters for the local part
+     * and a custom domain. Refer to uniqueEmails(boolean, boolean) for details.
+     *
+     * @param upperLettersInLocalPart If true, include upper case letters in the local part.
+     * @param numbersInLocalPart If true, include numbers in the local part.
+     * @param domain The custom domain name for the email addresses.
+     * @return UniqueSequence of email addresses with the specified domain.
+     */
+    public UniqueSequence uniqueEmails(boolean upperLettersInLocalPart, boolean numbersInLocalPart, String domain){
+        return new UniqueSequence(RandomService.countStrings(8, upperLettersInLocalPart, numbersInLocalPart, false),
+                getRandom().nextLong(), index -> RandomService.stringAt(index, 8, upperLettersInLocalPart,
+                        numbersInLocalPart, false) + domain);
+    }
+
     /**
      * Generates a random email address with a person's full name in the local part and adds the custom domain name.
      *
@@ -148,7 +267,7 @@ public class EmailProvider extends BaseProvider{
      * @return The generated email address with a person's full name and the specified domain name.
      */
     public String getEmailWPersonName(String domain){
-        return getEmailLocalePartAsFullName() + domain;
+        return emailWPersonName("_", domain);
     }
 
     /**
@@ -160,7 +279,7 @@ public class EmailProvider extends BaseProvider{
      * @return The generated email address with a person's full name and the specified domain name.
      */
     public String getEmailWPersonName(String separator, String domain){
-        return getEmailLocalePartAsFullName(separator) + domain;
+        return emailWPersonName(separator, domain);
     }
 
 
@@ -171,7 +290,7 @@ public class EmailProvider extends BaseProvider{
      * @return The generated email address with a person's full name and a default domain name.
      */
     public String getEmailWPersonName(){
-        return getEmailLocalePartAsFullName() + getEmailDomainName();
+        return emailWPersonName("_", null);
     }
 
     /**
@@ -182,7 +301,21 @@ public class EmailProvider extends BaseProvider{
      * @return The generated email address with a person's full name and a default domain name.
      */
     public String getEmailWPersonNameAndSeparator(String separator){
-        return getEmailLocalePartAsFullName(separator) + getEmailDomainName();
+        return emailWPersonName(separator, null);
+    }
+
+    /**
+     * Builds the email address with the parts of the generated Name in the local part and the custom domain name,
+     * or the randomly generated one, if the domain is null, directly in one buffer.
+     */
+    private String emailWPersonName(String separator, String domain){
+        StringBuilder email = nameProvider().name().appendTo(new StringBuilder(32), separator);
+
+        if(domain == null){
+            return getRandom().randomString(email.append('@'), 4, false, false, false).append(".com").toString();
+        }
+
+        return email.append(domain).toString();
     }
 
 
@@ -0,0 +1,92 @@
+package selmok.datagenerator.dataproviders;
+
+import java.util.Objects;
+
+/**
+ * This is the generated name of the person: first name, last name and the index of the category of the first
+ * name in the source json file (e.g. 0 for female and 1 for male names), the last name was selected to match.
+ * Parts of the name are kept separately, so that they can be used as they are (e.g. in the email local part,
+ * the template or two columns of the record) with no need to split the full name string.
+ *
+ * @author Cas
+ */
+public final class Name {
+    private final String firstName;
+    private final String lastName;
+    private final int category;
+
+    /**
+     * Creates the name of the parts provided.
+     *
+     * @param firstName the first name
+     * @param lastName  the last name
+     * @param category  the index of the category of the first name in the source json file
+     */
+    public Name(String firstName, String lastName, int category) {
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.category = category;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    /**
+     * Returns the index of the category of the first name in the source json file (e.g. 0 for
+     * "female_first_name" and 1 for "male_first_name"), the last name matches by gender.
+     */
+    public int getCategory() {
+        return category;
+    }
+
+    /**
+     * Returns the first and last name, separated by " ".
+     */
+    public String fullName(){
+        return join(" ");
+    }
+
+    /**
+     * Returns the first and last name, separated by the separator provided (e.g. "John_Smith" for "_").
+     *
+     * @param separator the separator of the first and last name
+     * @return the joined name
+     */
+    public String join(String separator){
+        return firstName + separator + lastName;
+    }
+
+    /**
+     * Appends the first and last name, separated by the separator provided, to the target.
+     *
+     * @param target    the builder to append the name to
+     * @param separator the separator of the first and last name
+     * @return the target builder
+     */
+    public StringBuilder appendTo(StringBuilder target, String separator){
+        return target.append(firstName).append(separator).append(lastName);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Name that = (Name) o;
+        return category == that.category && firstName.equals(that.firstName) && lastName.equals(that.lastName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(firstName, lastName, category);
+    }
+
+    @Override
+    public String toString() {
+        return fullName();
+    }
+}
@@ -2,12 +2,24 @@ package selmok.datagenerator.dataproviders;
 
 import selmok.datagenerator.customizers.SingletonLocaleContext;
 import selmok.datagenerator.services.RandomService;
+import selmok.datagenerator.utils.datasets.Dataset;
+import selmok.datagenerator.utils.datasets.ValueConstraint;
 import selmok.datagenerator.utils.message_customizers.ExceptionsHandlerUtils;
+import selmok.datagenerator.utils.requests_handler.RequestCompiler;
 import selmok.datagenerator.utils.requests_handler.RequestExecutor;
+import selmok.datagenerator.utils.requests_handler.RequestPlan;
+import selmok.datagenerator.utils.unique.UniqueSequence;
 import org.apache.logging.log4j.Level;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Provides methods for generating names, extending the functionality of the BaseProvider class.
@@ -20,13 +32,14 @@ public class NameProvider extends BaseProvider {
     /**
      * Initializes the map of requests executed to get corresponding fake date (first name, last name,
      * full name). The requests are jsonpath to json files, that holds the information to generate from.
+     * Each request is compiled only once into the RequestPlan, that is further executed on every call.
      */
-    private static final HashMap<String, String> requests = new HashMap<>();
+    private static final HashMap<String, RequestPlan> requests = new HashMap<>();
 
     static {
-        requests.put("first_name", "name(/generator/first_name)");
-        requests.put("last_name", "name(/generator/last_name)");
-        requests.put("full_name", "name(/generator/first_name|/generator/last_name)");
+        requests.put("first_name", RequestCompiler.compile("name(/generator/first_name)"));
+        requests.put("last_name", RequestCompiler.compile("name(/generator/last_name)"));
+        requests.put("full_name", RequestCompiler.compile("name(/generator/first_name|/generator/last_name)"));
     }
 
     /**
@@ -55,7 +68,7 @@ public class NameProvider extends BaseProvider {
                     getRandom());
         } catch (IOException e) {
             getISSUE_LOG().log(Level.FATAL, ExceptionsHandlerUtils
-                    .constructErrorMessageForFailedRequests(e, requests.get("first_name")));
+                    .constructErrorMessageForFailedRequests(e, requests.get("first_name").getRequest()));
         }
 
         return null;
@@ -77,7 +90,7 @@ public class NameProvider extends BaseProvider {
                     getRandom());
         } catch (IOException e) {
             getISSUE_LOG().log(Level.FATAL, ExceptionsHandlerUtils
-                    .constructErrorMessageForFailedRequests(e, requests.get("last_name")));
+                    .constructErrorMessageForFailedRequests(e, requests.get("last_name").getRequest()));
         }
 
         return null;
@@ -101,7 +114,403 @@ public class NameProvider extends BaseProvider {
                     requests.get("full_name"), getRandom(), true);
         } catch (IOException e) {
             getISSUE_LOG().log(Level.FATAL, ExceptionsHandlerUtils
-                    .constructErrorMessageForFailedRequests(e,requests.get("full_name")));
+                    .constructErrorMessageForFailedRequests(e, requests.get("full_name").getRequest()));
+        }
+
+        return null;
+    }
+
+    /**
+     * Generates a random name of the person: first and last name, that match each other by gender the same
+     * way as in fullName(), kept separately with the category of the first name. The parts can be used as they
+     * are (e.g. in the email local part), with no need to split the full name. The same random service gives
+     * the same name as fullName().
+     *
+     * <p>If the request fails due to an IOException, a FATAL level log message is generated using the logger
+     * from the base class, indicating the failure to retrieve the fake value for the full name.</p>
+     *
+     * @return A random Name generated, or null if the request fails.
+     */
+    public Name name(){
+        return nameValue(false);
+    }
+
+    /**
+     * Generates a random name of the person, where both first and last name are selected with probability,
+     * proportional to their frequency (weight). Refer to name() and weightedFullName() for details.
+     *
+     * @return A random Name generated, or null if the request fails.
+     */
+    public Name weightedName(){
+        return nameValue(true);
+    }
+
+    /**
+     * Generates the specified number of random names of persons. The source datasets are resolved only once
+     * for all the names, so this method is much cheaper than calling name() in a loop, while the names
+     * generated are the same.
+     *
+     * @param count The number of names to generate.
+     * @return An array of random names, or null if the request fails.
+     */
+    public Name[] names(int count){
+        return names(new Name[count]);
+    }
+
+    /**
+     * Fills the provided array with random names of persons. Refer to names(int) for details.
+     *
+     * @param target The array to fill with names.
+     * @return The target array, or null if the request fails.
+     */
+    public Name[] names(Name[] target){
+        try {
+            RequestExecutor.fillNamesByRequest(getLocale(), requests.get("full_name"), getRandom(), false,
+                    target, 0, target.length);
+            return target;
+        } catch (IOException e) {
+            getISSUE_LOG().log(Level.FATAL, ExceptionsHandlerUtils
+                    .constructErrorMessageForFailedRequests(e, requests.get("full_name").getRequest()));
+        }
+
+        return null;
+    }
+
+    /**
+     * Generates a random first name, that matches the constraint (e.g. ValueConstraint.any().maxLength(10)
+     * .startingWith('K').asciiOnly() for the form field). The name is selected uniformly from the first names,
+     * that match, with the index of the source dataset, built on the first constrained request, so that it takes
+     * O(1) time with no retries, no matter how few names match.
+     *
+     * <p>If the request fails due to an IOException, a FATAL level log message is generated using the logger
+     * from the base class, indicating the failure to retrieve the fake value for the first name.</p>
+     *
+     * @param constraint The constraint of the first name.
+     * @return A random first name, that matches the constraint, or null if the request fails.
+     * @throws IllegalArgumentException If no first name matches the constraint.
+     */
+    public String firstName(ValueConstraint constraint){
+        return constrainedValue("first_name", constraint);
+    }
+
+    /**
+     * Generates a random last name, that matches the constraint. Refer to firstName(ValueConstraint) for details.
+     *
+     * @param constraint The constraint of the last name.
+     * @return A random last name, that matches the constraint, or null if the request fails.
+     * @throws IllegalArgumentException If no last name matches the constraint.
+     */
+    public String lastName(ValueConstraint constraint){
+        return constrainedValue("last_name", constraint);
+    }
+
+    /**
+     * Generates a random name of the person, where first and last name match their constraints and each other
+     * by gender the same way as in name(). Refer to firstName(ValueConstraint) for details.
+     *
+     * <p>If the request fails due to an IOException, a FATAL level log message is generated using the logger
+     * from the base class, indicating the failure to retrieve the fake value for the full name.</p>
+     *
+     * @param firstNameConstraint The constraint of the first name.
+     * @param lastNameConstraint  The constraint of the last name.
+     * @return A random Name, that matches the constraints, or null if the request fails.
+     * @throws IllegalArgumentException If no name matches the constraints.
+     */
+    public Name name(ValueConstraint firstNameConstraint, ValueConstraint lastNameConstraint){
+        try {
+            return RequestExecutor.getConstrainedNameByRequest(getLocale(), requests.get("full_name"), getRandom(),
+                    firstNameConstraint, lastNameConstraint);
+        } catch (IOException e) {
+            getISSUE_LOG().log(Level.FATAL, ExceptionsHandlerUtils
+                    .constructErrorMessageForFailedRequests(e, requests.get("full_name").getRequest()));
+        }
+
+        return null;
+    }
+
+    /**
+     * Generates a random first name with probability, proportional to its frequency (weight), defined
+     * in the source json file, so that common names are generated more often then rare ones.
+     * If names have no weights defined, every name has the same probability to be generated.
+     *
+     * <p>If the request fails due to an IOException, a FATAL level log message is generated using the logger
+     * from the base class, indicating the failure to retrieve the fake value for the first name.</p>
+     *
+     * @return A random first name generated, or null if the request fails.
+     */
+    public String weightedFirstName(){
+        return weightedValue("first_name", false);
+    }
+
+    /**
+     * Generates a random last name with probability, proportional to its frequency (weight), defined
+     * in the source json file, so that common surnames are generated more often then rare ones.
+     * If surnames have no weights defined, every surname has the same probability to be generated.
+     *
+     * <p>If the request fails due to an IOException, a FATAL level log message is generated using the logger
+     * from the base class, indicating the failure to retrieve the fake value for the last name.</p>
+     *
+     * @return A random last name generated, or null if the request fails.
+     */
+    public String weightedLastName(){
+        return weightedValue("last_name", false);
+    }
+
+    /**
+     * Generates a random full name, where both first and last name are selected with probability,
+     * proportional to their frequency (weight), defined in the source json file.
+     * First and last names match each other by gender the same way as in fullName().
+     *
+     * <p>If the request fails due to an IOException, a FATAL level log message is generated using the logger
+     * from the base class, indicating the failure to retrieve the fake value for the full name.</p>
+     *
+     * @return A random full name generated, or null if the request fails.
+     */
+    public String weightedFullName(){
+        return weightedValue("full_name", true);
+    }
+
+    /**
+     * Generates the specified number of random first names. The source dataset is resolved only once
+     * for all the names, so this method is much cheaper than calling firstName() in a loop, while
+     * the names generated are the same.
+     *
+     * <p>If the request fails due to an IOException, a FATAL level log message is generated using the logger
+     * from the base class, indicating the failure to retrieve the fake values for the first name.</p>
+     *
+     * @param count The number of first names to generate.
+     * @return An array of random first names, or null if the request fails.
+     */
+    public String[] firstNames(int count){
+        return firstNames(new String[count]);
+    }
+
+    /**
+     * Fills the provided array with random first names. Refer to firstNames(int) for details.
+     *
+     * @param target The array to fill with first names.
+     * @return The target array, or null if the request fails.
+     */
+    public String[] firstNames(String[] target){
+        return values("first_name", false, target);
+    }
+
+    /**
+     * Generates the specified number of random last names. The source dataset is resolved only once
+     * for all the names, so this method is much cheaper than calling lastName() in a loop, while
+     * the names generated are the same.
+     *
+     * <p>If the request fails due to an IOException, a FATAL level log message is generated using the logger
+     * from the base class, indicating the failure to retrieve the fake values for the last name.</p>
+     *
+     * @param count The number of last names to generate.
+     * @return An array of random last names, or null if the request fails.
+     */
+    public String[] lastNames(int count){
+        return lastNames(new String[count]);
+    }
+
+    /**
+     * Fills the provided array with random last names. Refer to lastNames(int) for details.
+     *
+     * @param target The array to fill with last names.
+     * @return The target array, or null if the request fails.
+     */
+    public String[] lastNames(String[] target){
+        return values("last_name", false, target);
+    }
+
+    /**
+     * Generates the specified number of random full names. The source datasets are resolved only once
+     * for all the names, so this method is much cheaper than calling fullName() in a loop, while
+     * the names generated are the same.
+     *
+     * <p>If the request fails due to an IOException, a FATAL level log message is generated using the logger
+     * from the base class, indicating the failure to retrieve the fake values for the full name.</p>
+     *
+     * @param count The number of full names to generate.
+     * @return An array of random full names, or null if the request fails.
+     */
+    public String[] fullNames(int count){
+        return fullNames(new String[count]);
+    }
+
+    /**
+     * Fills the provided array with random full names. Refer to fullNames(int) for details.
+     *
+     * @param target The array to fill with full names.
+     * @return The target array, or null if the request fails.
+     */
+    public String[] fullNames(String[] target){
+        return values("full_name", true, target);
+    }
+
+    /**
+     * Returns the sequence of unique first names: all the distinct first names of the source json file in random
+     * order, defined by the RandomService of this provider. Every name is returned only once, until
+     * the sequence is exhausted, with no need to store the names already returned.
+     *
+     * <p>If the request fails due to an IOException, a FATAL level log message is generated using the logger
+     * from the base class, indicating the failure to retrieve the fake values for the first name.</p>
+     *
+     * @return UniqueSequence of first names, or null if the request fails.
+     */
+    public UniqueSequence uniqueFirstNames(){
+        return uniqueValues("first_name");
+    }
+
+    /**
+     * Returns the sequence of unique last names. Refer to uniqueFirstNames() for details.
+     *
+     * @return UniqueSequence of last names, or null if the request fails.
+     */
+    public UniqueSequence uniqueLastNames(){
+        return uniqueValues("last_name");
+    }
+
+    /**
+     * Returns the sequence of unique full names: all the distinct combinations of first and last names, that match
+     * each other by gender the same way as in fullName(), in random order, defined by the RandomService
+     * of this provider. Every full name is returned only once, until the sequence is exhausted, with no need
+     * to store the names already returned.
+     *
+     * <p>If the request fails due to an IOException, a FATAL level log message is generated using the logger
+     * from the base class, indicating the failure to retrieve the fake values for the full name.</p>
+     *
+     * @return UniqueSequence of full names, or null if the request fails.
+     */
+    public UniqueSequence uniqueFullNames(){
+        try {
+            Dataset[] datasets = RequestExecutor.getDatasetsByRequest(getLocale(), requests.get("full_name"));
+            Dataset firstNames = datasets[0];
+            Dataset lastNames = datasets[1];
+
+            // the same first name may be in several categories (e.g. female and male ones), that share last names,
+            // so the first names are grouped by the categories they belong to, and every group is combined
+            // with the distinct last names of all its categories once
+            Map<String, BitSet> firstNameCategories = new LinkedHashMap<>();
+
+            for (int category = 0; category < firstNames.categoryCount(); category++) {
+                for (int i = 0; i < firstNames.categorySize(category); i++) {
+                    firstNameCategories.computeIfAbsent(firstNames.getValue(category, i), key -> new BitSet())
+                            .set(category);
+                }
+            }
+
+            Map<BitSet, List<String>> groups = new LinkedHashMap<>();
+            firstNameCategories.forEach((firstName, categories) ->
+                    groups.computeIfAbsent(categories, key -> new ArrayList<>()).add(firstName));
+
+            String[][] groupFirstNames = new String[groups.size()][];
+            String[][] groupLastNames = new String[groups.size()][];
+            long[] groupStarts = new long[groups.size() + 1];
+            int group = 0;
+
+            for (Map.Entry<BitSet, List<String>> entry : groups.entrySet()) {
+                Set<String> groupLastNameSet = new LinkedHashSet<>();
+
+                for (int category = entry.getKey().nextSetBit(0); category >= 0;
+                     category = entry.getKey().nextSetBit(category + 1)) {
+                    int lastNameCategory = Math.min(category, lastNames.categoryCount() - 1);
+
+                    for (int i = 0; i < lastNames.categorySize(lastNameCategory); i++) {
+                        groupLastNameSet.add(lastNames.getValue(lastNameCategory, i));
+                    }
+                }
+
+                groupFirstNames[group] = entry.getValue().toArray(new String[0]);
+                groupLastNames[group] = groupLastNameSet.toArray(new String[0]);
+                groupStarts[group + 1] = groupStarts[group]
+                        + (long) groupFirstNames[group].length * groupLastNames[group].length;
+                group++;
+            }
+
+            return new UniqueSequence(groupStarts[groupStarts.length - 1], getRandom().nextLong(), index -> {
+                int current = 0;
+
+                while(index >= groupStarts[current + 1]){
+                    current++;
+                }
+
+                long combination = index - groupStarts[current];
+                String[] currentLastNames = groupLastNames[current];
+
+                return groupFirstNames[current][(int) (combination / currentLastNames.length)] + " "
+                        + currentLastNames[(int) (combination % currentLastNames.length)];
+            });
+        } catch (IOException e) {
+            getISSUE_LOG().log(Level.FATAL, ExceptionsHandlerUtils
+                    .constructErrorMessageForFailedRequests(e, requests.get("full_name").getRequest()));
+        }
+
+        return null;
+    }
+
+    private UniqueSequence uniqueValues(String requestName){
+        try {
+            Dataset dataset = RequestExecutor.getDatasetByRequest(getLocale(), requests.get(requestName), 0);
+
+            // the source json file may hold the same value more then once (e.g. in several categories),
+            // so the sequence walks the distinct values only
+            Set<String> distinctValues = new LinkedHashSet<>();
+
+            for (int i = 0; i < dataset.size(); i++) {
+                distinctValues.add(dataset.getValue(i));
+            }
+
+            String[] values = distinctValues.toArray(new String[0]);
+            return new UniqueSequence(values.length, getRandom().nextLong(), index -> values[(int) index]);
+        } catch (IOException e) {
+            getISSUE_LOG().log(Level.FATAL, ExceptionsHandlerUtils
+                    .constructErrorMessageForFailedRequests(e, requests.get(requestName).getRequest()));
+        }
+
+        return null;
+    }
+
+    private String[] values(String requestName, boolean getKeysOnSameIndexOrLast, String[] target){
+        try {
+            RequestExecutor.fillFakeValuesByRequest(getLocale(), requests.get(requestName), getRandom(),
+                    getKeysOnSameIndexOrLast, target, 0, target.length);
+            return target;
+        } catch (IOException e) {
+            getISSUE_LOG().log(Level.FATAL, ExceptionsHandlerUtils
+                    .constructErrorMessageForFailedRequests(e, requests.get(requestName).getRequest()));
+        }
+
+        return null;
+    }
+
+    private String constrainedValue(String requestName, ValueConstraint constraint){
+        try {
+            return RequestExecutor.getConstrainedFakeValueByRequest(getLocale(), requests.get(requestName),
+                    getRandom(), constraint);
+        } catch (IOException e) {
+            getISSUE_LOG().log(Level.FATAL, ExceptionsHandlerUtils
+                    .constructErrorMessageForFailedRequests(e, requests.get(requestName).getRequest()));
+        }
+
+        return null;
+    }
+
+    private Name nameValue(boolean weighted){
+        try {
+            return RequestExecutor.getNameByRequest(getLocale(), requests.get("full_name"), getRandom(), weighted);
+        } catch (IOException e) {
+            getISSUE_LOG().log(Level.FATAL, ExceptionsHandlerUtils
+                    .constructErrorMessageForFailedRequests(e, requests.get("full_name").getRequest()));
+        }
+
+        return null;
+    }
+
+    private String weightedValue(String requestName, boolean getKeysOnSameIndexOrLast){
+        try {
+            return RequestExecutor.getWeightedFakeValueByRequest(getLocale(), requests.get(requestName),
+                    getRandom(), getKeysOnSameIndexOrLast);
+        } catch (IOException e) {
+            getISSUE_LOG().log(Level.FATAL, ExceptionsHandlerUtils
+                    .constructErrorMessageForFailedRequests(e, requests.get(requestName).getRequest()));
         }
 
         return null;
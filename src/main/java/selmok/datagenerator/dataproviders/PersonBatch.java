@@ -0,0 +1,87 @@
+package selmok.datagenerator.dataproviders;
+
+/**
+ * This is the batch of person records in the columnar form: every field of the records is stored in its own
+ * array (first names, last names, emails, passwords), and the record with index i is made of the values
+ * on index i of every column. Columns can be passed as they are to the loaders, that accept the values
+ * column by column (e.g. JDBC batch with one setString per column, COPY-style bulk loaders), with no need
+ * to create the object for every record.
+ *
+ * The batch can be filled again with the new records (refer to PersonProvider.persons(PersonBatch, ...)),
+ * so that the columns are allocated only once for any number of batches.
+ *
+ * @author Cas
+ */
+public final class PersonBatch {
+    private final String[] firstNames;
+    private final String[] lastNames;
+    private final String[] emails;
+    private final String[] passwords;
+
+    /**
+     * Creates the batch with empty columns for the specified number of records.
+     *
+     * @param size the number of records in the batch
+     * @throws IllegalArgumentException if the size is negative
+     */
+    public PersonBatch(int size) {
+        if(size < 0){
+            throw new IllegalArgumentException("Size of the batch must not be negative, but was: " + size);
+        }
+
+        this.firstNames = new String[size];
+        this.lastNames = new String[size];
+        this.emails = new String[size];
+        this.passwords = new String[size];
+    }
+
+    /**
+     * Returns the names of the columns of the batch, in the same order as columns() returns them.
+     */
+    public static String[] columnNames() {
+        return new String[]{"first_name", "last_name", "email", "password"};
+    }
+
+    /**
+     * Returns all the columns of the batch (first names, last names, emails, passwords), e.g. to write them
+     * with RecordExporter.writeColumns. The arrays are not copied.
+     */
+    public String[][] columns() {
+        return new String[][]{firstNames, lastNames, emails, passwords};
+    }
+
+    /**
+     * Returns the number of records in the batch.
+     */
+    public int size() {
+        return firstNames.length;
+    }
+
+    /**
+     * Returns the column of first names. The array is not copied.
+     */
+    public String[] getFirstNames() {
+        return firstNames;
+    }
+
+    /**
+     * Returns the column of last names. The array is not copied.
+     */
+    public String[] getLastNames() {
+        return lastNames;
+    }
+
+    /**
+     * Returns the column of emails, derived from the names of the same records. The array is not copied.
+     */
+    public String[] getEmails() {
+        return emails;
+    }
+
+    /**
+     * Returns the column of passwords. The array is not copied.
+     */
+    public String[] getPasswords() {
+        return passwords;
+    }
+}
@@ -0,0 +1,184 @@
+package selmok.datagenerator.dataproviders;
+
+import selmok.datagenerator.customizers.SingletonLocaleContext;
+import selmok.datagenerator.services.RandomService;
+import selmok.datagenerator.utils.datasets.Dataset;
+import selmok.datagenerator.utils.message_customizers.ExceptionsHandlerUtils;
+import selmok.datagenerator.utils.requests_handler.RequestCompiler;
+import selmok.datagenerator.utils.requests_handler.RequestExecutor;
+import selmok.datagenerator.utils.requests_handler.RequestPlan;
+import org.apache.logging.log4j.Level;
+
+import java.io.IOException;
+
+/**
+ * Provides methods for generating person records, extending the functionality of the BaseProvider class.
+ * Every record is generated in one pass and its fields are consistent with each other: the last name
+ * matches the first name by gender, and the email is derived from the same first and last name
+ * (e.g. Anastasiya_Kovalenko@xxxx.com for the ukrainian translation of this name), instead of
+ * the unrelated name, generated by EmailProvider.getEmailWPersonName().
+ * Records are returned as PersonBatch, where every field is stored in its own array.
+ */
+public class PersonProvider extends BaseProvider {
+
+    /**
+     * The default length of passwords of the records.
+     */
+    public static final int DEFAULT_PASSWORD_LENGTH = 12;
+
+    /**
+     * The separator of the first and last name in the local part of the email, the same as
+     * in EmailProvider.getEmailLocalePartAsFullName().
+     */
+    private static final String EMAIL_NAME_SEPARATOR = "_";
+
+    /**
+     * The request for first and last names, compiled only once into the RequestPlan.
+     */
+    private static final RequestPlan FULL_NAME_REQUEST =
+            RequestCompiler.compile("name(/generator/first_name|/generator/last_name)");
+
+    /**
+     * Using the BaseProvider.class constructor, initializes the instance of PersonProvider
+     * with SingletonLocaleContext to define country and language for which data will be generated
+     * and RandomService settings to use (e.g. random seed).
+     */
+    public PersonProvider(SingletonLocaleContext locale, RandomService random) {
+        super(locale, random);
+    }
+
+    /**
+     * Generates the specified number of person records with randomly generated email domain names
+     * and passwords of the default length. Refer to persons(PersonBatch, String, int) for details.
+     *
+     * @param count The number of records to generate.
+     * @return PersonBatch of records, or null if the request fails.
+     */
+    public PersonBatch persons(int count){
+        return persons(new PersonBatch(count), null, DEFAULT_PASSWORD_LENGTH);
+    }
+
+    /**
+     * Generates the specified number of person records with the custom email domain and password length.
+     * Refer to persons(PersonBatch, String, int) for details.
+     *
+     * @param count          The number of records to generate.
+     * @param domain         The custom domain name for the emails (e.g. "@test.com"), or null to generate
+     *                       the random domain name for every record.
+     * @param passwordLength The length of every password.
+     * @return PersonBatch of records, or null if the request fails.
+     */
+    public PersonBatch persons(int count, String domain, int passwordLength){
+        return persons(new PersonBatch(count), domain, passwordLength);
+    }
+
+    /**
+     * Fills the provided batch with person records: first name, last name, that matches the first name
+     * by gender, email in the format FirstName_LastName + domain and password with upper case letters,
+     * numbers and special characters.
+     * The source datasets are resolved only once for the whole batch. The email is always made of the
+     * english rendition of the same name (the value on the same position of the english dataset of the country),
+     * so that it contains only latin letters even if the names are translated (e.g. into ukrainian).
+     * If the english dataset does not match the translated one by positions, the translated name is used.
+     *
+     * <p>If the request fails due to an IOException, a FATAL level log message is generated using the logger
+     * from the base class, indicating the failure to retrieve the fake values for the full name.</p>
+     *
+     * @param target         The batch to fill with records.
+     * @param domain         The custom domain name for the emails (e.g. "@test.com"), or null to generate
+     *                       the random domain name for every record.
+     * @param passwordLength The length of every password.
+     * @return The target batch, or null if the request fails.
+     */
+    public PersonBatch persons(PersonBatch target, String domain, int passwordLength){
+        try {
+            Dataset[] datasets = RequestExecutor.getDatasetsByRequest(getLocale(), FULL_NAME_REQUEST);
+            Dataset[] emailDatasets = getEmailDatasets(datasets);
+            fill(target, datasets[0], datasets[1], emailDatasets[0], emailDatasets[1], domain, passwordLength);
+            return target;
+        } catch (IOException e) {
+            getISSUE_LOG().log(Level.FATAL, ExceptionsHandlerUtils
+                    .constructErrorMessageForFailedRequests(e, FULL_NAME_REQUEST.getRequest()));
+        }
+
+        return null;
+    }
+
+    private void fill(PersonBatch target, Dataset firstNames, Dataset lastNames, Dataset emailFirstNames,
+                      Dataset emailLastNames, String domain, int passwordLength){
+        RandomService random = getRandom();
+        StringBuilder email = new StringBuilder();
+
+        for (int i = 0; i < target.size(); i++) {
+            int firstNameIndex = random.nextInt(firstNames.size());
+            int category = firstNames.categoryOf(firstNameIndex);
+            int lastNameCategory = Math.min(category, lastNames.categoryCount() - 1);
+            int lastNameIndex = lastNames.categoryStart(lastNameCategory)
+                    + random.nextInt(lastNames.categorySize(lastNameCategory));
+
+            target.getFirstNames()[i] = firstNames.getValue(firstNameIndex);
+            target.getLastNames()[i] = lastNames.getValue(lastNameIndex);
+
+            email.setLength(0);
+            email.append(emailFirstNames.getValue(firstNameIndex)).append(EMAIL_NAME_SEPARATOR)
+                    .append(emailLastNames.getValue(lastNameIndex));
+
+            if(domain == null){
+                random.randomString(email.append('@'), 4, false, false, false).append(".com");
+            }
+
+            else{
+                email.append(domain);
+            }
+
+            target.getEmails()[i] = email.toString();
+            target.getPasswords()[i] = random.randomString(passwordLength, true, true, true);
+        }
+    }
+
+    /**
+     * Returns the english datasets of the country for the emails, or the datasets of the locale themselves,
+     * if the locale is already english, the english datasets cannot be loaded or do not match them by positions.
+     */
+    private Dataset[] getEmailDatasets(Dataset[] datasets){
+        SingletonLocaleContext emailLocale = EmailProvider
+                .constructEmailLocaleContext(getLocale().getLocale().getCountry());
+
+        if(emailLocale == getLocale()){
+            return datasets;
+        }
+
+        try {
+            Dataset[] emailDatasets = RequestExecutor.getDatasetsByRequest(emailLocale, FULL_NAME_REQUEST);
+
+            for (int i = 0; i < datasets.length; i++) {
+                emailDatasets[i] = isAligned(datasets[i], emailDatasets[i]) ? emailDatasets[i] : datasets[i];
+            }
+
+            return emailDatasets;
+        } catch (IOException e) {
+            getISSUE_LOG().log(Level.WARN, ExceptionsHandlerUtils
+                    .constructErrorMessageForFailedRequests(e, FULL_NAME_REQUEST.getRequest()));
+        }
+
+        return datasets;
+    }
+
+    /**
+     * Checks if the values of both datasets are on the same positions: datasets have the same number
+     * of categories and categories have the same number of values.
+     */
+    private static boolean isAligned(Dataset dataset, Dataset other){
+        if(dataset.categoryCount() != other.categoryCount()){
+            return false;
+        }
+
+        for (int i = 0; i < dataset.categoryCount(); i++) {
+            if(dataset.categorySize(i) != other.categorySize(i)){
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
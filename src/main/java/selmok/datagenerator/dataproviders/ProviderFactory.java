@@ -0,0 +1,33 @@
+package selmok.datagenerator.dataproviders;
+
+import selmok.datagenerator.customizers.SingletonLocaleContext;
+import selmok.datagenerator.services.RandomService;
+
+/**
+ * This is the factory of the fake data provider, used by ProviderRegistry to create the provider once per
+ * DataGenerator and locale. Factories of the third-party providers (e.g. AddressProvider of the separate
+ * library) are found with ServiceLoader: the library should list the implementation class in the file
+ * META-INF/services/selmok.datagenerator.dataproviders.ProviderFactory, then the provider is available as
+ * generator.provider(AddressProvider.class) with the same caching as the built-in providers.
+ * Implementations must have the public no-argument constructor.
+ *
+ * @param <P> the type of the provider
+ * @author Cas
+ */
+public interface ProviderFactory<P extends BaseProvider> {
+
+    /**
+     * Returns the class of the provider, this factory creates. The provider is requested from
+     * ProviderRegistry by this class.
+     */
+    Class<P> getProviderClass();
+
+    /**
+     * Creates the provider for the locale and random service provided.
+     *
+     * @param locale the country and language context for the fake data
+     * @param random the random service to generate the data with
+     * @return the new provider
+     */
+    P create(SingletonLocaleContext locale, RandomService random);
+}
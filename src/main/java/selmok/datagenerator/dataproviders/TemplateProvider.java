@@ -0,0 +1,99 @@
+package selmok.datagenerator.dataproviders;
+
+import selmok.datagenerator.customizers.SingletonLocaleContext;
+import selmok.datagenerator.services.RandomService;
+import selmok.datagenerator.utils.message_customizers.ExceptionsHandlerUtils;
+import selmok.datagenerator.utils.templates.Template;
+import selmok.datagenerator.utils.templates.TemplateCompiler;
+import org.apache.logging.log4j.Level;
+
+import java.io.IOException;
+
+/**
+ * Provides methods for generating values by templates (e.g. "{first_name}.{last_name}{nn}@corp.test"),
+ * extending the functionality of the BaseProvider class. Every template is compiled only once
+ * by TemplateCompiler and rendered with no intermediate strings, so it is much cheaper then concatenating
+ * the values of several providers. Refer to Template class for the syntax of templates.
+ */
+public class TemplateProvider extends BaseProvider {
+
+    /**
+     * Using the BaseProvider.class constructor, initializes the instance of TemplateProvider
+     * with SingletonLocaleContext to define country and language for which data will be generated
+     * and RandomService settings to use (e.g. random seed).
+     */
+    public TemplateProvider(SingletonLocaleContext locale, RandomService random) {
+        super(locale, random);
+    }
+
+    /**
+     * Generates the value by the template string. The template is compiled on the first call only, unless
+     * TemplateCompiler.MAX_INTERNED_TEMPLATES other templates are already interned, so the template, rendered
+     * many times, should be compiled once with TemplateCompiler.compile() and rendered with render(Template).
+     *
+     * <p>If the request for names fails due to an IOException, a FATAL level log message is generated using
+     * the logger from the base class, indicating the failure to render the template.</p>
+     *
+     * @param template The template string.
+     * @return The value generated, or null if the request fails.
+     * @throws IllegalArgumentException if the template is invalid
+     */
+    public String render(String template){
+        return render(TemplateCompiler.compile(template));
+    }
+
+    /**
+     * Generates the value by the compiled template.
+     *
+     * <p>If the request for names fails due to an IOException, a FATAL level log message is generated using
+     * the logger from the base class, indicating the failure to render the template.</p>
+     *
+     * @param template The compiled template.
+     * @return The value generated, or null if the request fails.
+     */
+    public String render(Template template){
+        try {
+            return template.render(getLocale(), getRandom());
+        } catch (IOException e) {
+            getISSUE_LOG().log(Level.FATAL, ExceptionsHandlerUtils
+                    .constructErrorMessageForFailedRequests(e, template.getTemplate()));
+        }
+
+        return null;
+    }
+
+    /**
+     * Generates the specified number of values by the compiled template.
+     * Refer to render(Template) for details.
+     *
+     * @param template The compiled template.
+     * @param count    The number of values to generate.
+     * @return An array of generated values, or null if the request fails.
+     */
+    public String[] render(Template template, int count){
+        return render(template, new String[count]);
+    }
+
+    /**
+     * Fills the provided array with values, generated by the compiled template.
+     * Refer to render(Template) for details.
+     *
+     * @param template The compiled template.
+     * @param target   The array to fill with values.
+     * @return The target array, or null if the request fails.
+     */
+    public String[] render(Template template, String[] target){
+        try {
+            for (int i = 0; i < target.length; i++) {
+                target[i] = template.render(getLocale(), getRandom());
+            }
+
+            return target;
+        } catch (IOException e) {
+            getISSUE_LOG().log(Level.FATAL, ExceptionsHandlerUtils
+                    .constructErrorMessageForFailedRequests(e, template.getTemplate()));
+        }
+
+        return null;
+    }
+}
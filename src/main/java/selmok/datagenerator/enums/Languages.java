@@ -9,7 +9,10 @@ package selmok.datagenerator.enums;
  * @author Vira
  */
 public enum Languages {
-    ENGLISH("en"), UKRAINIAN("ukr");
+    ENGLISH("en", "abcdefghijklmnopqrstuvwxyz"),
+    UKRAINIAN("ukr", "\u0430\u0431\u0432\u0433\u0491\u0434\u0435\u0454\u0436\u0437\u0438\u0456\u0457"
+            + "\u0439\u043a\u043b\u043c\u043d\u043e\u043f\u0440\u0441\u0442\u0443\u0444\u0445\u0446\u0447"
+            + "\u0448\u0449\u044c\u044e\u044f");
 
     /**
      * Provides a string representation of specific language in format
@@ -17,12 +20,19 @@ public enum Languages {
      */
     private String languageCode;
 
+    /**
+     * Provides the lower case letters of the alphabet of specific language in the alphabetical order,
+     * used to generate random strings in its script (refer to selmok.datagenerator.services.Alphabet).
+     */
+    private String lowerLetters;
+
     /**
      * Initializes each Languages enum entry with its corresponding
-     * language code, defined according to ISO 639
+     * language code, defined according to ISO 639, and the letters of its alphabet.
      */
-    Languages(String languageCode) {
+    Languages(String languageCode, String lowerLetters) {
         this.languageCode = languageCode;
+        this.lowerLetters = lowerLetters;
     }
 
     /**
@@ -32,4 +42,12 @@ public enum Languages {
     public String getLanguageCode() {
         return languageCode;
     }
+
+    /**
+     * Returns the lower case letters of the alphabet of specific language in the alphabetical order
+     * (e.g. 33 letters of the ukrainian alphabet).
+     */
+    public String getLowerLetters() {
+        return lowerLetters;
+    }
 }
@@ -0,0 +1,147 @@
+package selmok.datagenerator.services;
+
+import selmok.datagenerator.enums.Languages;
+
+/**
+ * This is the alphabet of the script, random strings and passwords are generated in (e.g. latin letters for english,
+ * cyrillic letters for ukrainian). It holds the tables of characters for all 8 combinations of the character classes
+ * (letters of the script always, upper case letters, numbers and special characters optionally), built once, so that
+ * the character is selected with one random number and one array load, no matter which script is used.
+ * Numbers and special characters are the same ASCII ones for all the alphabets.
+ *
+ * The alphabets of the languages, supported by the library, are built once and resolved by the locale
+ * (refer to LocaleContext.getAlphabet()). If all the letters are in the Basic Multilingual Plane (as latin
+ * and cyrillic ones are), the tables hold chars and strings are generated exactly the same way as ASCII ones.
+ * Otherwise the tables hold code points, and every letter is appended as the whole code point, so that the
+ * surrogate pairs are never split. Lengths of the strings are measured in code points.
+ * The alphabet is immutable and can be shared by any number of threads.
+ *
+ * @author Cas
+ */
+public final class Alphabet {
+    static final String NUMBER_SRC_STRING = "0123456789";
+    static final String SPECIAL_CHARS_SRC_STRING = "$#&*{}[],=-().+;/!%^?><:~`|";
+    static final char[] NUMBER_CHARS = NUMBER_SRC_STRING.toCharArray();
+    static final char[] SPECIAL_CHARS = SPECIAL_CHARS_SRC_STRING.toCharArray();
+    static final int[] NUMBER_CODE_POINTS = NUMBER_SRC_STRING.codePoints().toArray();
+    static final int[] SPECIAL_CODE_POINTS = SPECIAL_CHARS_SRC_STRING.codePoints().toArray();
+
+    private static final Alphabet[] LANGUAGE_ALPHABETS = new Alphabet[Languages.values().length];
+
+    static {
+        for (Languages language : Languages.values()) {
+            LANGUAGE_ALPHABETS[language.ordinal()] = new Alphabet(language.getLowerLetters());
+        }
+    }
+
+    /**
+     * The alphabet of latin letters, used by default.
+     */
+    public static final Alphabet ASCII = LANGUAGE_ALPHABETS[Languages.ENGLISH.ordinal()];
+
+    private final String lowerLetters;
+    private final String upperLetters;
+    private final boolean bmp;
+    private final char[][] charTables;
+    private final char[] upperChars;
+    private final int[][] codePointTables;
+    private final int[] upperCodePoints;
+
+    private Alphabet(String lowerLetters) {
+        StringBuilder upper = new StringBuilder(lowerLetters.length());
+        lowerLetters.codePoints().forEach(codePoint -> upper.appendCodePoint(Character.toUpperCase(codePoint)));
+
+        this.lowerLetters = lowerLetters;
+        this.upperLetters = upper.toString();
+        this.bmp = lowerLetters.length() == lowerLetters.codePointCount(0, lowerLetters.length())
+                && upperLetters.length() == upperLetters.codePointCount(0, upperLetters.length());
+        this.charTables = bmp ? new char[8][] : null;
+        this.upperChars = bmp ? upperLetters.toCharArray() : null;
+        this.codePointTables = new int[8][];
+        this.upperCodePoints = upperLetters.codePoints().toArray();
+
+        for (int i = 0; i < codePointTables.length; i++) {
+            String table = lowerLetters + ((i & 1) != 0 ? upperLetters : "") + ((i & 2) != 0 ? NUMBER_SRC_STRING : "")
+                    + ((i & 4) != 0 ? SPECIAL_CHARS_SRC_STRING : "");
+            codePointTables[i] = table.codePoints().toArray();
+
+            if(bmp){
+                charTables[i] = table.toCharArray();
+            }
+        }
+    }
+
+    /**
+     * Returns the alphabet of the language provided, built once for every language.
+     *
+     * @param language the language of the alphabet
+     * @return Alphabet
+     */
+    public static Alphabet of(Languages language){
+        return LANGUAGE_ALPHABETS[language.ordinal()];
+    }
+
+    /**
+     * Creates the alphabet of the letters provided (e.g. of the script, not supported by Languages yet).
+     * Upper case letters are derived from them. The alphabet should be created once and reused, as its tables
+     * are built on creation.
+     *
+     * @param lowerLetters the lower case letters of the alphabet
+     * @return Alphabet
+     * @throws IllegalArgumentException if there are no letters or any of the characters is not a letter
+     */
+    public static Alphabet of(String lowerLetters){
+        if(lowerLetters == null || lowerLetters.isEmpty()
+                || !lowerLetters.codePoints().allMatch(Character::isLetter)){
+            throw new IllegalArgumentException("Alphabet must consist of letters only, but was: " + lowerLetters);
+        }
+
+        return new Alphabet(lowerLetters);
+    }
+
+    /**
+     * Returns the index of the table for the specified character classes.
+     */
+    static int tableIndex(boolean upperLetters, boolean numbers, boolean specialChars){
+        return (upperLetters ? 1 : 0) | (numbers ? 2 : 0) | (specialChars ? 4 : 0);
+    }
+
+    /**
+     * Returns true if all the letters of the alphabet are single chars, so that char tables are available.
+     */
+    public boolean isBmp() {
+        return bmp;
+    }
+
+    public String getLowerLetters() {
+        return lowerLetters;
+    }
+
+    public String getUpperLetters() {
+        return upperLetters;
+    }
+
+    /**
+     * Returns the table of chars for the character classes, or null if the alphabet is not in the BMP.
+     */
+    char[] chars(int tableIndex){
+        return bmp ? charTables[tableIndex] : null;
+    }
+
+    char[] upperChars(){
+        return upperChars;
+    }
+
+    int[] codePoints(int tableIndex){
+        return codePointTables[tableIndex];
+    }
+
+    int[] upperCodePoints(){
+        return upperCodePoints;
+    }
+
+    @Override
+    public String toString() {
+        return "Alphabet{" + lowerLetters + "}";
+    }
+}
@@ -0,0 +1,108 @@
+package selmok.datagenerator.services;
+
+import java.security.SecureRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * This is the cryptographically strong random generator, that pulls the entropy from SecureRandom
+ * in large blocks instead of calling it for every value, so that it is close to the speed of
+ * non-cryptographic generators. Integers less than 256 (e.g. indexes of characters in the alphabet
+ * of the password) take one byte of the block each, with the rejection of the bytes, that would make
+ * the result biased, so that every integer has exactly the same probability.
+ *
+ * The generator is not thread-safe: every thread should use its own instance
+ * (e.g. through ThreadLocalRandomGenerator).
+ *
+ * @author Cas
+ */
+public final class BufferedSecureRandom implements RandomGenerator {
+    public static final int DEFAULT_BUFFER_SIZE = 4096;
+
+    private final SecureRandom source;
+    private final byte[] buffer;
+    private int position;
+
+    /**
+     * Creates the generator with default SecureRandom and default size of the block.
+     */
+    public BufferedSecureRandom() {
+        this(new SecureRandom(), DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates the generator with the specified SecureRandom and size of the block, pulled from it at once.
+     *
+     * @param source     the source of the entropy
+     * @param bufferSize the number of bytes pulled from the source at once
+     * @throws IllegalArgumentException if the size of the block is less than 8 bytes
+     */
+    public BufferedSecureRandom(SecureRandom source, int bufferSize) {
+        if(bufferSize < Long.BYTES){
+            throw new IllegalArgumentException("Buffer size must be at least " + Long.BYTES + " bytes, but was: "
+                    + bufferSize);
+        }
+
+        this.source = source;
+        this.buffer = new byte[bufferSize];
+        this.position = bufferSize;
+    }
+
+    /**
+     * Returns the next byte of the block as unsigned int, pulling the next block from the source if required.
+     */
+    private int nextUnsignedByte(){
+        if(position == buffer.length){
+            source.nextBytes(buffer);
+            position = 0;
+        }
+
+        return buffer[position++] & 0xFF;
+    }
+
+    @Override
+    public long nextLong() {
+        long value = 0;
+
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | nextUnsignedByte();
+        }
+
+        return value;
+    }
+
+    @Override
+    public int nextInt() {
+        int value = 0;
+
+        for (int i = 0; i < Integer.BYTES; i++) {
+            value = (value << 8) | nextUnsignedByte();
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns uniformly distributed integer from 0 (inclusive) to the bound (exclusive). If the bound is not
+     * bigger than 256, one byte is used for every attempt: bytes from the last incomplete range of the bound
+     * values are rejected, so that all the results have the same probability.
+     */
+    @Override
+    public int nextInt(int bound) {
+        if(bound <= 0){
+            throw new IllegalArgumentException("Bound must be positive, but was: " + bound);
+        }
+
+        if(bound > 256){
+            return RandomGenerator.super.nextInt(bound);
+        }
+
+        int limit = 256 - 256 % bound;
+        int value;
+
+        do {
+            value = nextUnsignedByte();
+        } while (value >= limit);
+
+        return value % bound;
+    }
+}
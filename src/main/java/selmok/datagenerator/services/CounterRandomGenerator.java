@@ -0,0 +1,69 @@
+package selmok.datagenerator.services;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * This is the counter-based random generator: every value it produces is computed directly from
+ * (seed, record index, counter) with the SplitMix64 mixing function, instead of being derived from
+ * the previous value. The counter is the number of values already produced for the record, so the
+ * fields of the record are generated from the same values on every run, and any record can be generated
+ * in O(1) time with no need to replay the values of the records before it.
+ *
+ * The generator is not thread-safe, but it is cheap to create, so every thread (or every record)
+ * should use its own instance.
+ *
+ * @author Cas
+ */
+public final class CounterRandomGenerator implements RandomGenerator {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long seed;
+    private final long record;
+    private final long key;
+    private long counter;
+
+    /**
+     * Creates the generator of the values for the record with the specified index.
+     *
+     * @param seed   the seed of the dataset, the record belongs to
+     * @param record the index of the record
+     */
+    public CounterRandomGenerator(long seed, long record) {
+        this.seed = seed;
+        this.record = record;
+        this.key = mix64(mix64(seed) + record * GOLDEN_GAMMA);
+    }
+
+    @Override
+    public long nextLong() {
+        return mix64(key ^ mix64(++counter * GOLDEN_GAMMA));
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getRecord() {
+        return record;
+    }
+
+    /**
+     * Returns the number of values already produced by this generator.
+     */
+    public long getCounter() {
+        return counter;
+    }
+
+    /**
+     * Mixes bits of the value with the finalizer of SplitMix64 (Stafford's variant 13),
+     * so that close inputs give unrelated outputs.
+     *
+     * @param value the value to mix
+     * @return mixed value
+     */
+    public static long mix64(long value){
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -1,24 +1,35 @@
 package selmok.datagenerator.services;
 
+import java.nio.BufferOverflowException;
+import java.nio.CharBuffer;
+import java.util.Objects;
 import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
 
 /**
  * RandomService class provides functionality for generating random strings and numbers.
- * It utilizes the java.util.Random class for generating random numbers.
+ * It utilizes the java.util.Random class for generating random numbers by default, but can be backed
+ * by any java.util.random.RandomGenerator: the faster one, chosen by the algorithm name (e.g. L64X128MixRandom),
+ * SplittableRandom, used for deterministic parallel generation, or BufferedSecureRandom for credentials.
  */
 public class RandomService {
-    private Random rand;
-    private static final String CHAR_LOWER_SRC_STRING = "abcdefghijklmnopqrstuvwxyz";
-    private static final String CHAR_UPPER_SRC_STRING = CHAR_LOWER_SRC_STRING.toUpperCase();
-    private static final String SPECIAL_CHARS_SRC_STRING = "$#&*{}[],=-().+;/!%^?><:~`|";
-    private static final String NUMBER_SRC_STRING = "0123456789";
+    private final RandomGenerator generator;
+    private final Random rand;
+
+    /**
+     * The alphabet of latin letters, random strings are generated with, unless another alphabet is provided.
+     * Refer to Alphabet class for the tables of all 8 combinations of the character classes.
+     */
+    private static final Alphabet ASCII = Alphabet.ASCII;
 
     /**
      * Creates RandomService instance with default Random object.
      * (uses default Random constructor with no parameters)
      */
     public RandomService() {
-        this.rand = new Random();
+        this(new Random());
     }
 
     /**
@@ -26,24 +37,144 @@ public class RandomService {
      */
     public RandomService(Random rand) {
         this.rand = rand;
+        this.generator = rand;
+    }
+
+    /**
+     * Creates RandomService instance with SplittableRandom object. Such service is not thread-safe and
+     * should be used by one thread only, while the streams for other threads are created with split().
+     */
+    public RandomService(SplittableRandom rand) {
+        this.rand = null;
+        this.generator = rand;
+    }
+
+    /**
+     * Creates RandomService instance with any random generator (e.g. CounterRandomGenerator for the
+     * seekable generation). If the generator is the Random object, it is returned by getRand().
+     */
+    public RandomService(RandomGenerator generator) {
+        this.rand = generator instanceof Random random ? random : null;
+        this.generator = generator;
+    }
+
+    /**
+     * Creates RandomService with the random generator of the specified algorithm
+     * (e.g. "L64X128MixRandom", "Xoroshiro128PlusPlus", "SplittableRandom"), refer to
+     * java.util.random package for the algorithms available. The generator is seeded by default.
+     *
+     * @param algorithm the name of the random generator algorithm
+     * @return RandomService backed by the generator of the algorithm
+     * @throws IllegalArgumentException if the algorithm is not found
+     */
+    public static RandomService of(String algorithm){
+        return new RandomService(RandomGeneratorFactory.of(algorithm).create());
+    }
+
+    /**
+     * Creates RandomService with the random generator of the specified algorithm, seeded with the seed provided,
+     * so that it produces the same values on every run. Refer to of(String) for details.
+     *
+     * @param algorithm the name of the random generator algorithm
+     * @param seed      the seed of the random generator
+     * @return RandomService backed by the generator of the algorithm
+     * @throws IllegalArgumentException if the algorithm is not found
+     */
+    public static RandomService of(String algorithm, long seed){
+        return new RandomService(RandomGeneratorFactory.of(algorithm).create(seed));
+    }
+
+    /**
+     * Creates RandomService with the cryptographically strong random generator, that should be used
+     * for credentials (e.g. passwords of real accounts). The entropy is pulled from SecureRandom in large
+     * blocks by BufferedSecureRandom, so that generation of random strings is close to the speed of
+     * the default generator. Such service is not thread-safe and should be used by one thread only.
+     *
+     * @return RandomService backed by BufferedSecureRandom
+     */
+    public static RandomService secure(){
+        return new RandomService(new BufferedSecureRandom());
+    }
+
+    /**
+     * Creates RandomService, that can be shared by any number of threads: every thread uses
+     * its own random generator of the specified algorithm, created by its factory on the first use
+     * by the thread.
+     *
+     * @param algorithm the name of the random generator algorithm
+     * @return RandomService backed by ThreadLocalRandomGenerator
+     * @throws IllegalArgumentException if the algorithm is not found
+     */
+    public static RandomService concurrent(String algorithm){
+        return new RandomService(new ThreadLocalRandomGenerator(RandomGeneratorFactory.of(algorithm)));
+    }
+
+    /**
+     * Creates RandomService, that can be shared by any number of threads: every thread uses
+     * its own ThreadLocalRandom, so that there is no contention on the shared seed.
+     *
+     * @return RandomService backed by ThreadLocalRandomGenerator
+     */
+    public static RandomService concurrent(){
+        return new RandomService(new ThreadLocalRandomGenerator());
+    }
+
+    /**
+     * Creates RandomService, that can be shared by any number of threads: every thread uses
+     * its own SplittableRandom, split from the seed provided on the first use by the thread.
+     * Refer to ThreadLocalRandomGenerator for details on reproducibility.
+     *
+     * @param seed the seed, the random generators of the threads are split from
+     * @return RandomService backed by ThreadLocalRandomGenerator
+     */
+    public static RandomService concurrent(long seed){
+        return new RandomService(new ThreadLocalRandomGenerator(seed));
     }
 
     /**
      * Retrieves the underlying Random object used for random numbers/text generation.
      *
-     * @return The Random object used for random number generation.
+     * @return The Random object used for random number generation, or null if the service is backed
+     * by another random generator (e.g. SplittableRandom).
      */
     public Random getRand() {
         return rand;
     }
 
+    /**
+     * Retrieves the underlying random generator used for random numbers/text generation.
+     *
+     * @return The RandomGenerator object used for random number generation.
+     */
+    public RandomGenerator getGenerator() {
+        return generator;
+    }
+
+    /**
+     * Creates new RandomService, backed by SplittableRandom, split from the generator of this service.
+     * The new service produces the stream of values, independent of this service, and can be used
+     * by another thread. Splitting is deterministic: services split in the same order from the
+     * generators with the same seed produce the same values.
+     *
+     * @return RandomService backed by the SplittableRandom split
+     * @throws UnsupportedOperationException if this service is not backed by SplittableRandom
+     */
+    public RandomService split(){
+        if(!(generator instanceof SplittableRandom splittable)){
+            throw new UnsupportedOperationException("RandomService backed by "
+                    + generator.getClass().getSimpleName() + " cannot be split, SplittableRandom is required");
+        }
+
+        return new RandomService(splittable.split());
+    }
+
     /**
      * Generates a random integer.
      *
      * @return The generated random integer.
      */
     public int nextInt(){
-        return rand.nextInt();
+        return generator.nextInt();
     }
 
     /**
@@ -53,7 +184,7 @@ public class RandomService {
      * @return The generated random integer.
      */
     public int nextInt(int bound){
-        return rand.nextInt(bound);
+        return generator.nextInt(bound);
     }
 
     /**
@@ -64,7 +195,7 @@ public class RandomService {
      * @return The generated random integer.
      */
     public int nextInt(int min, int max){
-        return rand.nextInt(min, max);
+        return generator.nextInt(min, max);
     }
 
     /**
@@ -73,7 +204,7 @@ public class RandomService {
      * @return The generated random long integer.
      */
     public long nextLong(){
-        return rand.nextLong();
+        return generator.nextLong();
     }
 
     /**
@@ -82,7 +213,7 @@ public class RandomService {
      * @return The generated random float.
      */
     public long nextLong(long bound){
-        return rand.nextLong(bound);
+        return generator.nextLong(bound);
     }
 
     /**
@@ -91,7 +222,7 @@ public class RandomService {
      * @return The generated random double.
      */
     public long nextLong(long min, long max){
-        return rand.nextLong(min, max);
+        return generator.nextLong(min, max);
     }
 
     /**
@@ -100,7 +231,7 @@ public class RandomService {
      * @return The generated random float.
      */
     public float nextFloat(){
-        return rand.nextFloat();
+        return generator.nextFloat();
     }
 
     /**
@@ -109,7 +240,7 @@ public class RandomService {
      * @return The generated random float.
      */
     public float nextFloat(float bound){
-        return rand.nextFloat(bound);
+        return generator.nextFloat(bound);
     }
 
     /**
@@ -120,7 +251,7 @@ public class RandomService {
      * @return The generated random float.
      */
     public float nextFloat(float min, float max){
-        return rand.nextFloat(min, max);
+        return generator.nextFloat(min, max);
     }
 
     /**
@@ -129,7 +260,7 @@ public class RandomService {
      * @return The generated random double.
      */
     public double nextDouble(){
-        return rand.nextDouble();
+        return generator.nextDouble();
     }
 
     /**
@@ -139,7 +270,7 @@ public class RandomService {
      * @return The generated random double.
      */
     public double nextDouble(double bound){
-        return rand.nextDouble(bound);
+        return generator.nextDouble(bound);
     }
 
     /**
@@ -150,41 +281,93 @@ public class RandomService {
      * @return The generated random double.
      */
     public double nextDouble(double min, double max){
-        return rand.nextDouble(min, max);
+        return generator.nextDouble(min, max);
     }
 
     /**
-     * Generates a string representation of the data source based on the specified parameters.
-     * The data source is used during random String generation to select characters from
-     * and create a random value by adding them until defined length is reached.
-     *
-     * @param upperLetters  If true, includes uppercase letters in the data source string.
-     * @param numbers       If true, includes numbers in the data source string.
-     * @param specialChars  If true, includes special characters in the data source string.
-     * @return The generated string representation of the data source.
+     * Returns the alphabet of the specified step of random String generation.
+     * The characters of the included classes are guaranteed by the fixed steps: special character is generated on
+     * the step length - 3, uppercase letter on the step length / 2 and number on the last step (if steps coincide,
+     * the class mentioned first wins). On all the other steps the character is selected from the whole alphabet.
      */
-    private String getDataSourceStringByParams(boolean upperLetters, boolean numbers,
-                                              boolean specialChars){
+    private static char[] getStepAlphabet(int step, int length, char[] alphabet, char[] upperChars,
+                                          boolean upperLetters, boolean numbers, boolean specialChars){
+        if(step == length - 3 && specialChars){
+            return Alphabet.SPECIAL_CHARS;
+        }
+
+        else if(step == length / 2 && upperLetters){
+            return upperChars;
+        }
+
+        else if(step == length - 1 && numbers){
+            return Alphabet.NUMBER_CHARS;
+        }
 
-        StringBuilder builder = new StringBuilder(CHAR_LOWER_SRC_STRING);
+        return alphabet;
+    }
 
-        if(upperLetters){
-            builder.append(CHAR_UPPER_SRC_STRING);
+    /**
+     * Returns the code points of the specified step of random String generation with the alphabet, which letters
+     * are not in the BMP. Refer to getStepAlphabet for details.
+     */
+    private static int[] getStepCodePoints(int step, int length, int[] alphabet, int[] upperCodePoints,
+                                           boolean upperLetters, boolean numbers, boolean specialChars){
+        if(step == length - 3 && specialChars){
+            return Alphabet.SPECIAL_CODE_POINTS;
         }
 
-        if(numbers){
-            builder.append(NUMBER_SRC_STRING);
+        else if(step == length / 2 && upperLetters){
+            return upperCodePoints;
         }
 
-        if(specialChars){
-            builder.append(SPECIAL_CHARS_SRC_STRING);
+        else if(step == length - 1 && numbers){
+            return Alphabet.NUMBER_CODE_POINTS;
         }
 
-        return builder.toString();
+        return alphabet;
+    }
+
+    /**
+     * Returns the random character for the specified step of random String generation.
+     */
+    private char nextChar(int step, int length, char[] alphabet, char[] upperChars, boolean upperLetters,
+                          boolean numbers, boolean specialChars){
+        char[] stepAlphabet = getStepAlphabet(step, length, alphabet, upperChars, upperLetters, numbers,
+                specialChars);
+        return stepAlphabet[generator.nextInt(stepAlphabet.length)];
+    }
+
+    /**
+     * Returns the step of random String generation, which character is placed at the start of the String
+     * (the special character), or -1 if there is no such step.
+     */
+    private static int getFirstCharStep(int length, boolean specialChars){
+        return specialChars && length >= 3 ? length - 3 : -1;
+    }
+
+    /**
+     * Fills the range of the char array with random characters of the specified parameters in one pass.
+     * The special character, if included, is placed at the start of the range, uppercase letter
+     * in the middle and number at the end.
+     */
+    private void fillRandomChars(char[] target, int offset, int length, Alphabet letters, boolean upperLetters,
+                                 boolean numbers, boolean specialChars){
+        char[] alphabet = letters.chars(Alphabet.tableIndex(upperLetters, numbers, specialChars));
+        char[] upperChars = letters.upperChars();
+        int firstCharStep = getFirstCharStep(length, specialChars);
+        int position = firstCharStep < 0 ? offset : offset + 1;
+
+        for (int i = 0; i < length; i++) {
+            char randomChar = nextChar(i, length, alphabet, upperChars, upperLetters, numbers, specialChars);
+            target[i == firstCharStep ? offset : position++] = randomChar;
+        }
     }
 
     /**
      * Generates a random string of the specified length using the given parameters.
+     * The string is guaranteed to include special character at the start, uppercase letter in the middle
+     * and number at the end, if they are included.
      *
      * @param length        The length of the random string to generate.
      * @param upperLetters If true, includes uppercase letters in the generated string.
@@ -193,35 +376,301 @@ public class RandomService {
      * @return The generated random string.
      */
     public String randomString(int length, boolean upperLetters, boolean numbers, boolean specialChars){
-        String srcData = getDataSourceStringByParams(upperLetters, numbers, specialChars);
+        return randomString(ASCII, length, upperLetters, numbers, specialChars);
+    }
+
+    /**
+     * Generates a random string of the specified length in the script of the alphabet provided (e.g.
+     * LocaleContext.getAlphabet() for the letters of the locale language). Refer to
+     * randomString(int, boolean, boolean, boolean) for details. If the letters of the alphabet are in the BMP,
+     * the string is generated the same way and as fast as the ASCII one, otherwise every letter is generated as
+     * the whole code point and the length is measured in code points.
+     *
+     * @param alphabet     The alphabet of the letters.
+     * @param length       The length of the random string to generate.
+     * @param upperLetters If true, includes uppercase letters in the generated string.
+     * @param numbers      If true, includes numbers in the generated string.
+     * @param specialChars If true, includes special characters in the generated string.
+     * @return The generated random string.
+     */
+    public String randomString(Alphabet alphabet, int length, boolean upperLetters, boolean numbers,
+                               boolean specialChars){
+        if(!alphabet.isBmp()){
+            return appendRandomCodePoints(new StringBuilder(2 * length), alphabet, length, upperLetters, numbers,
+                    specialChars).toString();
+        }
 
-        StringBuilder resData = new StringBuilder(length);
+        char[] resData = new char[length];
+        fillRandomChars(resData, 0, length, alphabet, upperLetters, numbers, specialChars);
+        return new String(resData);
+    }
 
-        for (int i =0; i < length; i++){
+    /**
+     * Appends a random string of the specified length using the given parameters to the provided builder.
+     * Refer to randomString(int, boolean, boolean, boolean) for details. If the builder has enough capacity,
+     * nothing is allocated.
+     *
+     * @param target       The builder to append the random string to.
+     * @param length       The length of the random string to generate.
+     * @param upperLetters If true, includes uppercase letters in the generated string.
+     * @param numbers      If true, includes numbers in the generated string.
+     * @param specialChars If true, includes special characters in the generated string.
+     * @return The builder provided.
+     */
+    public StringBuilder randomString(StringBuilder target, int length, boolean upperLetters, boolean numbers,
+                                      boolean specialChars){
+        return randomString(target, ASCII, length, upperLetters, numbers, specialChars);
+    }
 
-            if(i == length-3 && specialChars){
-                resData.insert(0, SPECIAL_CHARS_SRC_STRING.charAt(rand.nextInt(SPECIAL_CHARS_SRC_STRING.length())));
-            }
+    /**
+     * Appends a random string of the specified length in the script of the alphabet provided to the builder.
+     * Refer to randomString(Alphabet, int, boolean, boolean, boolean) for details.
+     *
+     * @param target       The builder to append the random string to.
+     * @param alphabet     The alphabet of the letters.
+     * @param length       The length of the random string to generate.
+     * @param upperLetters If true, includes uppercase letters in the generated string.
+     * @param numbers      If true, includes numbers in the generated string.
+     * @param specialChars If true, includes special characters in the generated string.
+     * @return The builder provided.
+     */
+    public StringBuilder randomString(StringBuilder target, Alphabet alphabet, int length, boolean upperLetters,
+                                      boolean numbers, boolean specialChars){
+        if(!alphabet.isBmp()){
+            return appendRandomCodePoints(target, alphabet, length, upperLetters, numbers, specialChars);
+        }
 
-            else if(i==length/2 && upperLetters){
-                resData.insert(length/2, CHAR_UPPER_SRC_STRING.charAt(rand.nextInt(CHAR_UPPER_SRC_STRING.length())));
-            }
+        char[] letters = alphabet.chars(Alphabet.tableIndex(upperLetters, numbers, specialChars));
+        char[] upperChars = alphabet.upperChars();
+        int firstCharStep = getFirstCharStep(length, specialChars);
+        int start = target.length();
 
-            else if(i==length-1 && numbers){
-                resData.insert(length-1, NUMBER_SRC_STRING.charAt(rand.nextInt(NUMBER_SRC_STRING.length())));
+        if(firstCharStep >= 0){
+            target.append(' ');
+        }
+
+        for (int i = 0; i < length; i++) {
+            char randomChar = nextChar(i, length, letters, upperChars, upperLetters, numbers, specialChars);
+
+            if(i == firstCharStep){
+                target.setCharAt(start, randomChar);
             }
 
             else{
-                int charIndex = rand.nextInt(srcData.length());
-                resData.append(srcData.charAt(charIndex));
+                target.append(randomChar);
             }
+        }
 
+        return target;
+    }
+
+    /**
+     * Puts a random string of the specified length using the given parameters into the provided buffer
+     * at its position, advancing the position by the length. Refer to randomString(int, boolean, boolean, boolean)
+     * for details. Nothing is allocated.
+     *
+     * @param target       The buffer to put the random string into.
+     * @param length       The length of the random string to generate.
+     * @param upperLetters If true, includes uppercase letters in the generated string.
+     * @param numbers      If true, includes numbers in the generated string.
+     * @param specialChars If true, includes special characters in the generated string.
+     * @return The buffer provided.
+     * @throws java.nio.BufferOverflowException if there are less than length characters remaining in the buffer
+     */
+    public CharBuffer randomString(CharBuffer target, int length, boolean upperLetters, boolean numbers,
+                                   boolean specialChars){
+        if(target.remaining() < length){
+            throw new BufferOverflowException();
         }
 
+        char[] alphabet = ASCII.chars(Alphabet.tableIndex(upperLetters, numbers, specialChars));
+        int firstCharStep = getFirstCharStep(length, specialChars);
+        int start = target.position();
+        int position = firstCharStep < 0 ? start : start + 1;
+
+        for (int i = 0; i < length; i++) {
+            char randomChar = nextChar(i, length, alphabet, ASCII.upperChars(), upperLetters, numbers, specialChars);
+            target.put(i == firstCharStep ? start : position++, randomChar);
+        }
 
-        return resData.toString();
+        return target.position(start + length);
     }
 
+    /**
+     * Writes a random string of the specified length using the given parameters into the provided byte array
+     * as ASCII (which is the same as UTF-8 for all the characters used). Refer to
+     * randomString(int, boolean, boolean, boolean) for details. Nothing is allocated.
+     *
+     * @param target       The array to write the random string into.
+     * @param offset       The index to write the first character at.
+     * @param length       The length of the random string to generate.
+     * @param upperLetters If true, includes uppercase letters in the generated string.
+     * @param numbers      If true, includes numbers in the generated string.
+     * @param specialChars If true, includes special characters in the generated string.
+     * @return The index after the last character written.
+     */
+    public int randomString(byte[] target, int offset, int length, boolean upperLetters, boolean numbers,
+                            boolean specialChars){
+        Objects.checkFromIndexSize(offset, length, target.length);
+        char[] alphabet = ASCII.chars(Alphabet.tableIndex(upperLetters, numbers, specialChars));
+        int firstCharStep = getFirstCharStep(length, specialChars);
+        int position = firstCharStep < 0 ? offset : offset + 1;
+
+        for (int i = 0; i < length; i++) {
+            char randomChar = nextChar(i, length, alphabet, ASCII.upperChars(), upperLetters, numbers, specialChars);
+            target[i == firstCharStep ? offset : position++] = (byte) randomChar;
+        }
 
+        return offset + length;
+    }
 
+    /**
+     * Returns the number of distinct strings of the specified length, that can be generated by randomString
+     * with the given parameters (considering the guaranteed placement of the character classes), or Long.MAX_VALUE
+     * if the number does not fit long.
+     *
+     * @param length       The length of the strings.
+     * @param upperLetters If true, includes uppercase letters in the strings.
+     * @param numbers      If true, includes numbers in the strings.
+     * @param specialChars If true, includes special characters in the strings.
+     * @return The number of distinct strings.
+     */
+    public static long countStrings(int length, boolean upperLetters, boolean numbers, boolean specialChars){
+        char[] alphabet = ASCII.chars(Alphabet.tableIndex(upperLetters, numbers, specialChars));
+        long count = 1;
+
+        for (int i = 0; i < length; i++) {
+            int radix = getStepAlphabet(i, length, alphabet, ASCII.upperChars(), upperLetters, numbers,
+                    specialChars).length;
+            count = count > Long.MAX_VALUE / radix ? Long.MAX_VALUE : count * radix;
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the string of the specified length with the given parameters by its index, so that distinct indexes
+     * from 0 to countStrings (exclusive) give distinct strings. The index is decoded into the characters as
+     * the mixed-radix number, where every step has the radix of its alphabet, and the characters are placed the
+     * same way as by randomString.
+     *
+     * @param index        The index of the string.
+     * @param length       The length of the string.
+     * @param upperLetters If true, includes uppercase letters in the string.
+     * @param numbers      If true, includes numbers in the string.
+     * @param specialChars If true, includes special characters in the string.
+     * @return The string on the index.
+     * @throws IllegalArgumentException if the index is negative
+     */
+    public static String stringAt(long index, int length, boolean upperLetters, boolean numbers,
+                                  boolean specialChars){
+        if(index < 0){
+            throw new IllegalArgumentException("Index of the string must not be negative, but was: " + index);
+        }
+
+        char[] alphabet = ASCII.chars(Alphabet.tableIndex(upperLetters, numbers, specialChars));
+        char[] resData = new char[length];
+        int firstCharStep = getFirstCharStep(length, specialChars);
+        int position = firstCharStep < 0 ? 0 : 1;
+
+        for (int i = 0; i < length; i++) {
+            char[] stepAlphabet = getStepAlphabet(i, length, alphabet, ASCII.upperChars(), upperLetters, numbers,
+                    specialChars);
+            char indexedChar = stepAlphabet[(int) (index % stepAlphabet.length)];
+            index /= stepAlphabet.length;
+            resData[i == firstCharStep ? 0 : position++] = indexedChar;
+        }
+
+        return new String(resData);
+    }
+
+    /**
+     * Fills the range of the target array with random strings of the specified length using the given parameters.
+     * The characters are generated into one char array, reused for the whole range, so the strings are
+     * the same as generated by calling randomString for every element of the range, but cheaper.
+     *
+     * @param target       The array to fill with the random strings.
+     * @param from         The index of the first element to fill (inclusive).
+     * @param to           The index of the last element to fill (exclusive).
+     * @param length       The length of every random string to generate.
+     * @param upperLetters If true, includes uppercase letters in the generated strings.
+     * @param numbers      If true, includes numbers in the generated strings.
+     * @param specialChars If true, includes special characters in the generated strings.
+     */
+    public void randomStrings(String[] target, int from, int to, int length, boolean upperLetters,
+                              boolean numbers, boolean specialChars){
+        randomStrings(target, from, to, ASCII, length, upperLetters, numbers, specialChars);
+    }
+
+    /**
+     * Fills the range of the target array with random strings of the specified length in the script of
+     * the alphabet provided. Refer to randomStrings(String[], int, int, int, boolean, boolean, boolean) and
+     * randomString(Alphabet, int, boolean, boolean, boolean) for details.
+     *
+     * @param target       The array to fill with the random strings.
+     * @param from         The index of the first element to fill (inclusive).
+     * @param to           The index of the last element to fill (exclusive).
+     * @param alphabet     The alphabet of the letters.
+     * @param length       The length of every random string to generate.
+     * @param upperLetters If true, includes uppercase letters in the generated strings.
+     * @param numbers      If true, includes numbers in the generated strings.
+     * @param specialChars If true, includes special characters in the generated strings.
+     */
+    public void randomStrings(String[] target, int from, int to, Alphabet alphabet, int length,
+                              boolean upperLetters, boolean numbers, boolean specialChars){
+        Objects.checkFromToIndex(from, to, target.length);
+
+        if(!alphabet.isBmp()){
+            StringBuilder builder = new StringBuilder(2 * length);
+
+            for (int i = from; i < to; i++) {
+                builder.setLength(0);
+                target[i] = appendRandomCodePoints(builder, alphabet, length, upperLetters, numbers, specialChars)
+                        .toString();
+            }
+
+            return;
+        }
+
+        char[] resData = new char[length];
+
+        for (int i = from; i < to; i++) {
+            fillRandomChars(resData, 0, length, alphabet, upperLetters, numbers, specialChars);
+            target[i] = new String(resData);
+        }
+    }
+
+    /**
+     * Appends a random string of the specified length in code points with the alphabet, which letters are not
+     * in the BMP. Every letter is appended as the whole code point, and the characters of the included classes
+     * are placed the same way as by randomString. The special character is ASCII, so it takes one char
+     * at the start.
+     */
+    private StringBuilder appendRandomCodePoints(StringBuilder target, Alphabet alphabet, int length,
+                                                 boolean upperLetters, boolean numbers, boolean specialChars){
+        int[] letters = alphabet.codePoints(Alphabet.tableIndex(upperLetters, numbers, specialChars));
+        int[] upperCodePoints = alphabet.upperCodePoints();
+        int firstCharStep = getFirstCharStep(length, specialChars);
+        int start = target.length();
+
+        if(firstCharStep >= 0){
+            target.append(' ');
+        }
+
+        for (int i = 0; i < length; i++) {
+            int[] stepCodePoints = getStepCodePoints(i, length, letters, upperCodePoints, upperLetters, numbers,
+                    specialChars);
+            int codePoint = stepCodePoints[generator.nextInt(stepCodePoints.length)];
+
+            if(i == firstCharStep){
+                target.setCharAt(start, (char) codePoint);
+            }
+
+            else{
+                target.appendCodePoint(codePoint);
+            }
+        }
+
+        return target;
+    }
 }
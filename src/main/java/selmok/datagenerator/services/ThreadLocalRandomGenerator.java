@@ -0,0 +1,127 @@
+package selmok.datagenerator.services;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * This is the random generator, that delegates every call to the random generator of the current thread,
+ * so that one RandomService can be shared by any number of threads with no contention on the shared seed.
+ * If the seed is not provided, ThreadLocalRandom is used. If the seed is provided, every thread gets its own
+ * SplittableRandom, split from the SplittableRandom with this seed on the first use by the thread.
+ * If the factory is provided, every thread gets its own generator, created by the factory.
+ *
+ * Values of every thread are reproducible only if threads make their first use in the same order
+ * (e.g. one thread only); for the output, reproducible on any number of threads, use ParallelGenerator.
+ *
+ * @author Cas
+ */
+public final class ThreadLocalRandomGenerator implements RandomGenerator {
+    private final ThreadLocal<RandomGenerator> generators;
+
+    /**
+     * Creates the generator, that delegates to ThreadLocalRandom of the current thread.
+     */
+    public ThreadLocalRandomGenerator() {
+        this.generators = null;
+    }
+
+    /**
+     * Creates the generator, that delegates to SplittableRandom of the current thread, split from
+     * SplittableRandom with the seed provided.
+     *
+     * @param seed the seed of the random generator, the generators of the threads are split from
+     */
+    public ThreadLocalRandomGenerator(long seed) {
+        SplittableRandom root = new SplittableRandom(seed);
+
+        this.generators = ThreadLocal.withInitial(() -> {
+            synchronized (root) {
+                return root.split();
+            }
+        });
+    }
+
+    /**
+     * Creates the generator, that delegates to the random generator of the current thread,
+     * created by the factory provided on the first use by the thread.
+     *
+     * @param factory the factory of the random generators of the threads
+     */
+    public ThreadLocalRandomGenerator(RandomGeneratorFactory<?> factory) {
+        this.generators = ThreadLocal.withInitial(factory::create);
+    }
+
+    /**
+     * Returns the random generator of the current thread.
+     */
+    public RandomGenerator current(){
+        return generators == null ? ThreadLocalRandom.current() : generators.get();
+    }
+
+    @Override
+    public long nextLong() {
+        return current().nextLong();
+    }
+
+    @Override
+    public int nextInt() {
+        return current().nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return current().nextInt(bound);
+    }
+
+    @Override
+    public int nextInt(int origin, int bound) {
+        return current().nextInt(origin, bound);
+    }
+
+    @Override
+    public long nextLong(long bound) {
+        return current().nextLong(bound);
+    }
+
+    @Override
+    public long nextLong(long origin, long bound) {
+        return current().nextLong(origin, bound);
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return current().nextBoolean();
+    }
+
+    @Override
+    public float nextFloat() {
+        return current().nextFloat();
+    }
+
+    @Override
+    public float nextFloat(float bound) {
+        return current().nextFloat(bound);
+    }
+
+    @Override
+    public float nextFloat(float origin, float bound) {
+        return current().nextFloat(origin, bound);
+    }
+
+    @Override
+    public double nextDouble() {
+        return current().nextDouble();
+    }
+
+    @Override
+    public double nextDouble(double bound) {
+        return current().nextDouble(bound);
+    }
+
+    @Override
+    public double nextDouble(double origin, double bound) {
+        return current().nextDouble(origin, bound);
+    }
+}
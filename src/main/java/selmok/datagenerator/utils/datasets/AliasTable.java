@@ -0,0 +1,126 @@
+package selmok.datagenerator.utils.datasets;
+
+import selmok.datagenerator.services.RandomService;
+
+/**
+ * This is the alias table for the weighted random selection of the index (Walker's alias method,
+ * built with Vose's algorithm). The table is built once in O(n) and then every selection takes
+ * O(1) time with two random numbers and no allocation, no matter how many indexes the table has.
+ * The table is immutable and can be shared by any number of threads.
+ *
+ * @author Cas
+ */
+public final class AliasTable {
+    private final double[] probabilities;
+    private final int[] aliases;
+
+    /**
+     * Builds the alias table for the weights from the specified range of the array.
+     * The indexes selected are relative to the start of the range.
+     *
+     * @param weights the array of weights
+     * @param from    the index of the first weight (inclusive)
+     * @param to      the index of the last weight (exclusive)
+     * @throws IllegalArgumentException if the range is empty, any weight is negative or not finite,
+     *                                  or all the weights are zero
+     */
+    public AliasTable(double[] weights, int from, int to) {
+        int size = to - from;
+
+        if(size <= 0){
+            throw new IllegalArgumentException("Alias table cannot be built for empty range of weights");
+        }
+
+        double totalWeight = 0;
+
+        for (int i = from; i < to; i++) {
+            if(!(weights[i] >= 0) || Double.isInfinite(weights[i])){
+                throw new IllegalArgumentException("Weight must be non-negative finite number, but was: "
+                        + weights[i]);
+            }
+
+            totalWeight += weights[i];
+        }
+
+        if(totalWeight == 0){
+            throw new IllegalArgumentException("At least one of the weights must be positive");
+        }
+
+        this.probabilities = new double[size];
+        this.aliases = new int[size];
+
+        // scaled probabilities are split into the stacks of small (< 1) and large (>= 1) ones,
+        // both stacks share one array: small grow from the start and large from the end
+        double[] scaled = new double[size];
+        int[] stacks = new int[size];
+        int small = 0;
+        int large = size;
+
+        for (int i = 0; i < size; i++) {
+            scaled[i] = weights[from + i] * size / totalWeight;
+
+            if(scaled[i] < 1){
+                stacks[small++] = i;
+            }
+
+            else{
+                stacks[--large] = i;
+            }
+        }
+
+        while(small > 0 && large < size){
+            int less = stacks[--small];
+            int more = stacks[large++];
+
+            probabilities[less] = scaled[less];
+            aliases[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1;
+
+            if(scaled[more] < 1){
+                stacks[small++] = more;
+            }
+
+            else{
+                stacks[--large] = more;
+            }
+        }
+
+        // remaining probabilities are 1 up to the rounding error
+        while(small > 0){
+            probabilities[stacks[--small]] = 1;
+        }
+
+        while(large < size){
+            probabilities[stacks[large++]] = 1;
+        }
+    }
+
+    /**
+     * Builds the alias table for all the weights of the array.
+     *
+     * @param weights the array of weights
+     * @throws IllegalArgumentException if the array is empty, any weight is negative or not finite,
+     *                                  or all the weights are zero
+     */
+    public AliasTable(double[] weights) {
+        this(weights, 0, weights.length);
+    }
+
+    /**
+     * Selects random index with probability, proportional to its weight.
+     *
+     * @param rand the random service to use for generating random values
+     * @return the index selected, relative to the start of the range of weights the table is built for
+     */
+    public int next(RandomService rand){
+        int column = rand.nextInt(probabilities.length);
+        return rand.nextDouble() < probabilities[column] ? column : aliases[column];
+    }
+
+    /**
+     * Returns number of indexes in the table.
+     */
+    public int size(){
+        return probabilities.length;
+    }
+}
@@ -0,0 +1,24 @@
+package selmok.datagenerator.utils.datasets;
+
+/**
+ * The ValuePool, that keeps all the values on heap in one flat String array.
+ *
+ * @author Cas
+ */
+final class ArrayValuePool implements ValuePool {
+    private final String[] values;
+
+    ArrayValuePool(String[] values) {
+        this.values = values;
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public String get(int index) {
+        return values[index];
+    }
+}
@@ -0,0 +1,214 @@
+package selmok.datagenerator.utils.datasets;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * This class represents the binary dictionary, compiled from the json file with fake values by
+ * BinaryDictionaryWriter. The dictionary holds the datasets, addressed by their json pointers, and
+ * keeps all their values in the single UTF-8 string pool with the index of value offsets.
+ *
+ * When the dictionary is opened from the file, the file is memory-mapped, so the string pool and the
+ * offsets index stay off-heap (and are shared through the page cache between all the JVMs, that map the
+ * same file). Only the header (json pointers and category names) and the weights of the values, if any,
+ * are read on heap. If the string pool is compressed, it is inflated on heap when the dictionary is opened.
+ *
+ * The binary format (all numbers are big-endian):
+ * <pre>
+ * int     magic ("SDIC"), int version, int flags (1 - string pool is deflated, 2 - values are weighted)
+ * int     number of datasets
+ *         per dataset: string json pointer, int number of categories,
+ *         per category: string name, int index of the first value, int number of values
+ * int     number of values
+ * int[]   offset of every value in the string pool, followed by the length of the string pool
+ * int     number of bytes of the string pool, stored in the file
+ * byte[]  string pool (UTF-8 values one after another)
+ * double[] weight of every value (only if values are weighted)
+ * </pre>
+ * Strings in the header are written as unsigned short length, followed by UTF-8 bytes.
+ *
+ * @author Cas
+ */
+public final class BinaryDictionary {
+    public static final int MAGIC = 0x53444943;
+    public static final int VERSION = 1;
+    public static final int FLAG_DEFLATE = 1;
+    public static final int FLAG_WEIGHTS = 2;
+    public static final String FILE_EXTENSION = ".sdict";
+
+    private final Map<String, Dataset> datasets;
+
+    private BinaryDictionary(Map<String, Dataset> datasets) {
+        this.datasets = datasets;
+    }
+
+    /**
+     * Opens the binary dictionary from the file by memory-mapping it.
+     *
+     * @param file the binary dictionary file
+     * @return BinaryDictionary
+     * @throws IOException if an I/O error occurs or the file is not a valid binary dictionary
+     */
+    public static BinaryDictionary open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Reads the binary dictionary from the buffer. The buffer is not copied, the values are
+     * decoded from it on request, so it must not be modified afterwards.
+     *
+     * @param buffer the buffer with binary dictionary content
+     * @return BinaryDictionary
+     * @throws IOException if the buffer does not hold a valid binary dictionary
+     */
+    public static BinaryDictionary read(ByteBuffer buffer) throws IOException {
+        try {
+            return readDictionary(buffer.duplicate());
+        } catch (RuntimeException e) {
+            throw new IOException("Binary dictionary is malformed", e);
+        }
+    }
+
+    private static BinaryDictionary readDictionary(ByteBuffer buffer) throws IOException {
+        if(buffer.remaining() < 16 || buffer.getInt() != MAGIC){
+            throw new IOException("Content is not a binary dictionary");
+        }
+
+        int version = buffer.getInt();
+
+        if(version != VERSION){
+            throw new IOException("Binary dictionary version " + version + " is not supported, expected: " + VERSION);
+        }
+
+        int flags = buffer.getInt();
+        int datasetCount = buffer.getInt();
+        String[] pointers = new String[datasetCount];
+        String[][] categories = new String[datasetCount][];
+        int[][] categoryOffsets = new int[datasetCount][];
+
+        for (int i = 0; i < datasetCount; i++) {
+            pointers[i] = readString(buffer);
+            categories[i] = new String[buffer.getInt()];
+            categoryOffsets[i] = new int[categories[i].length + 1];
+
+            for (int j = 0; j < categories[i].length; j++) {
+                categories[i][j] = readString(buffer);
+                categoryOffsets[i][j] = buffer.getInt();
+                categoryOffsets[i][j + 1] = categoryOffsets[i][j] + buffer.getInt();
+            }
+        }
+
+        int valueCount = buffer.getInt();
+        IntBuffer valueOffsets = buffer.slice(buffer.position(), (valueCount + 1) * Integer.BYTES).asIntBuffer();
+        buffer.position(buffer.position() + valueCount * Integer.BYTES);
+        int poolLength = buffer.getInt();
+        int storedLength = buffer.getInt();
+        ByteBuffer stringPool = buffer.slice(buffer.position(), storedLength);
+        buffer.position(buffer.position() + storedLength);
+        DoubleBuffer weights = (flags & FLAG_WEIGHTS) == 0 ? null
+                : buffer.slice(buffer.position(), valueCount * Double.BYTES).asDoubleBuffer();
+
+        if((flags & FLAG_DEFLATE) != 0){
+            stringPool = inflate(stringPool, poolLength);
+        }
+
+        Map<String, Dataset> datasets = new HashMap<>();
+
+        for (int i = 0; i < datasetCount; i++) {
+            int firstValue = categoryOffsets[i][0];
+
+            for (int j = 0; j < categoryOffsets[i].length; j++) {
+                categoryOffsets[i][j] -= firstValue;
+            }
+
+            int size = categoryOffsets[i][categories[i].length];
+            datasets.put(pointers[i], new Dataset(categories[i], categoryOffsets[i], new MappedValuePool(stringPool,
+                    valueOffsets, firstValue, size), readWeights(weights, firstValue, size)));
+        }
+
+        return new BinaryDictionary(datasets);
+    }
+
+    /**
+     * Reads the weights of the values of the dataset on heap, or returns null if values
+     * of the dataset are not weighted (all the weights are 1).
+     */
+    private static double[] readWeights(DoubleBuffer weights, int firstValue, int size){
+        if(weights == null){
+            return null;
+        }
+
+        double[] datasetWeights = new double[size];
+        weights.get(firstValue, datasetWeights);
+
+        for (double weight : datasetWeights) {
+            if(weight != 1){
+                return datasetWeights;
+            }
+        }
+
+        return null;
+    }
+
+    private static String readString(ByteBuffer buffer){
+        byte[] encoded = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(encoded);
+        return new String(encoded, StandardCharsets.UTF_8);
+    }
+
+    private static ByteBuffer inflate(ByteBuffer compressed, int length) throws IOException {
+        Inflater inflater = new Inflater();
+        byte[] pool = new byte[length];
+
+        try {
+            inflater.setInput(compressed);
+            int inflated = 0;
+
+            while(inflated < length && !inflater.finished() && !inflater.needsInput()){
+                inflated += inflater.inflate(pool, inflated, length - inflated);
+            }
+
+            if(inflated != length){
+                throw new IOException("Compressed string pool is truncated: " + inflated + " of "
+                        + length + " bytes inflated");
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Compressed string pool is malformed", e);
+        } finally {
+            inflater.end();
+        }
+
+        return ByteBuffer.wrap(pool);
+    }
+
+    /**
+     * Returns the dataset, stored under the json pointer, or null if there is no such dataset
+     * in the dictionary.
+     *
+     * @return Dataset or null
+     */
+    public Dataset getDataset(String jsonPointer) {
+        return datasets.get(jsonPointer);
+    }
+
+    /**
+     * Returns unmodifiable set of json pointers of all the datasets in the dictionary.
+     */
+    public Set<String> getJsonPointers() {
+        return Collections.unmodifiableSet(datasets.keySet());
+    }
+}
@@ -0,0 +1,208 @@
+package selmok.datagenerator.utils.datasets;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import selmok.datagenerator.utils.dateparser.jsonparser.JSONParser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Compiles the json files with fake values into the binary dictionaries, read by BinaryDictionary.
+ * Every object of the json file, that holds only arrays of values (e.g. "/generator/first_name" with
+ * "female_first_name" and "male_first_name" arrays), is written as the dataset, addressed by its json pointer.
+ * Values of all the datasets are written into the single UTF-8 string pool with the index of their offsets.
+ * If any value is weighted, the weights of all the values are written after the string pool.
+ *
+ * It is used by the build to compile all the faker_date/**.json resources, refer to the main method for
+ * the arguments accepted.
+ *
+ * @author Cas
+ */
+public class BinaryDictionaryWriter {
+
+    /**
+     * Compiles every json file under the source directory into binary dictionary under the target directory,
+     * keeping relative path of the file and replacing its extension.
+     * Arguments: source directory, target directory and optional "--compress" flag
+     * to compress the string pools.
+     */
+    public static void main(String[] args) throws IOException {
+        if(args.length < 2){
+            throw new IllegalArgumentException("Usage: BinaryDictionaryWriter <source dir> <target dir> [--compress]");
+        }
+
+        Path sourceDir = Paths.get(args[0]);
+        Path targetDir = Paths.get(args[1]);
+        boolean compress = args.length > 2 && "--compress".equals(args[2]);
+        List<Path> jsonFiles;
+
+        try (Stream<Path> files = Files.walk(sourceDir)) {
+            jsonFiles = files.filter(file -> file.toString().endsWith(".json")).toList();
+        }
+
+        for (Path jsonFile : jsonFiles) {
+            String relativePath = sourceDir.relativize(jsonFile).toString();
+            Path binaryFile = targetDir.resolve(relativePath.substring(0, relativePath.length() - ".json".length())
+                    + BinaryDictionary.FILE_EXTENSION);
+
+            Files.createDirectories(binaryFile.getParent());
+
+            try (OutputStream outputStream = Files.newOutputStream(binaryFile)) {
+                write(JSONParser.readFileToJsonNode(jsonFile.toFile()), outputStream, compress);
+            }
+        }
+    }
+
+    /**
+     * Writes all the datasets, found in the json document, as binary dictionary into the output stream.
+     *
+     * @param document     the root node of the json document
+     * @param outputStream the stream to write binary dictionary to (it is not closed)
+     * @param compress     if true, the string pool is compressed with deflate
+     * @throws IOException if an I/O error occurs while writing
+     */
+    public static void write(JsonNode document, OutputStream outputStream, boolean compress) throws IOException {
+        List<String> pointers = new ArrayList<>();
+        List<JsonNode> datasetNodes = new ArrayList<>();
+        collectDatasets(document, "", pointers, datasetNodes);
+
+        ByteArrayOutputStream stringPool = new ByteArrayOutputStream();
+        List<Integer> valueOffsets = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        boolean hasWeights = false;
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        DataOutputStream headerOutput = new DataOutputStream(header);
+
+        headerOutput.writeInt(pointers.size());
+
+        for (int i = 0; i < pointers.size(); i++) {
+            writeString(headerOutput, pointers.get(i));
+            headerOutput.writeInt(datasetNodes.get(i).size());
+            Iterator<Map.Entry<String, JsonNode>> categories = datasetNodes.get(i).fields();
+
+            while(categories.hasNext()){
+                Map.Entry<String, JsonNode> category = categories.next();
+                JsonNode categoryValues = category.getValue();
+                writeString(headerOutput, category.getKey());
+                headerOutput.writeInt(valueOffsets.size());
+                headerOutput.writeInt(categoryValues.isArray() ? categoryValues.size() : 1);
+
+                for (JsonNode value : categoryValues.isArray() ? categoryValues : List.of(categoryValues)) {
+                    JsonNode weight = value.path("weight");
+                    weights.add(weight.isNumber() ? weight.doubleValue() : 1);
+                    hasWeights |= weight.isNumber() && weight.doubleValue() != 1;
+
+                    valueOffsets.add(stringPool.size());
+                    stringPool.write((value.isObject() ? value.get("value") : value).asText()
+                            .getBytes(StandardCharsets.UTF_8));
+                }
+            }
+        }
+
+        DataOutputStream output = new DataOutputStream(outputStream);
+
+        output.writeInt(BinaryDictionary.MAGIC);
+        output.writeInt(BinaryDictionary.VERSION);
+        output.writeInt((compress ? BinaryDictionary.FLAG_DEFLATE : 0) | (hasWeights ? BinaryDictionary.FLAG_WEIGHTS : 0));
+        header.writeTo(output);
+        output.writeInt(valueOffsets.size());
+
+        for (int offset : valueOffsets) {
+            output.writeInt(offset);
+        }
+
+        // end offset of the last value, which is the length of uncompressed string pool
+        output.writeInt(stringPool.size());
+        byte[] storedPool = compress ? deflate(stringPool.toByteArray()) : stringPool.toByteArray();
+        output.writeInt(storedPool.length);
+        output.write(storedPool);
+
+        if(hasWeights){
+            for (double weight : weights) {
+                output.writeDouble(weight);
+            }
+        }
+
+        output.flush();
+    }
+
+    /**
+     * Walks the json tree and collects the objects, that hold only arrays of values or single values, as datasets.
+     */
+    private static void collectDatasets(JsonNode node, String path, List<String> pointers,
+                                        List<JsonNode> datasetNodes){
+        if(!node.isObject() || node.isEmpty()){
+            return;
+        }
+
+        boolean isDataset = true;
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+
+        while(fields.hasNext()){
+            JsonNode value = fields.next().getValue();
+            isDataset &= value.isArray() ? isArrayOfValues(value) : isValue(value);
+        }
+
+        if(isDataset){
+            pointers.add(path);
+            datasetNodes.add(node);
+            return;
+        }
+
+        fields = node.fields();
+
+        while(fields.hasNext()){
+            Map.Entry<String, JsonNode> field = fields.next();
+            collectDatasets(field.getValue(), path + "/" + field.getKey().replace("~", "~0")
+                    .replace("/", "~1"), pointers, datasetNodes);
+        }
+    }
+
+    private static boolean isArrayOfValues(JsonNode array){
+        for (JsonNode value : array) {
+            if(!isValue(value)){
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks if the node is the value of the dataset: either scalar or weighted value
+     * (e.g. {"value": "Smith", "weight": 2442977}).
+     */
+    private static boolean isValue(JsonNode node){
+        return node.isValueNode() || (node.isObject() && node.path("value").isValueNode());
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        output.writeShort(encoded.length);
+        output.write(encoded);
+    }
+
+    private static byte[] deflate(byte[] data) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(compressed,
+                new Deflater(Deflater.BEST_COMPRESSION))) {
+            deflater.write(data);
+        }
+
+        return compressed.toByteArray();
+    }
+}
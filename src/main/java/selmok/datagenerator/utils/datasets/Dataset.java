@@ -0,0 +1,289 @@
+package selmok.datagenerator.utils.datasets;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This class represents the dataset of fake values, loaded from the source json file
+ * by the specific json pointer (e.g. "/generator/first_name").
+ * The dataset consists of the categories (e.g. "female_first_name", "male_first_name"), kept in the
+ * order they are defined in the source file, and the values stored under each category.
+ * Values of all the categories are kept in the single ValuePool one after another, and the
+ * category offsets table defines where the values of each category start.
+ * Optionally, every value can have the weight, used for weighted random selection (e.g. to generate
+ * common surnames more often then rare ones). The alias tables for weighted selection are built once
+ * on the first request to them, as well as the index for the selection of values by constraint (refer to
+ * DatasetIndex).
+ * The dataset is immutable and can be shared by any number of providers.
+ *
+ * @author Cas
+ */
+public final class Dataset {
+    private final String[] categories;
+    private final int[] categoryOffsets;
+    private final ValuePool values;
+    private final double[] weights;
+
+    private volatile AliasTable aliasTable;
+    private volatile AliasTable[] categoryAliasTables;
+    private volatile DatasetIndex index;
+
+    /**
+     * Creates the dataset from the category names and the values of each category.
+     * Both arrays must be of the same length. Values of all the categories are copied
+     * into the single flat array.
+     *
+     * @throws IllegalArgumentException if number of categories does not match number of value arrays
+     */
+    public Dataset(String[] categories, String[][] values) {
+        if(categories.length != values.length){
+            throw new IllegalArgumentException("Dataset has " + categories.length + " categories, but "
+                    + values.length + " arrays of values");
+        }
+
+        int[] offsets = new int[categories.length + 1];
+
+        for (int i = 0; i < values.length; i++) {
+            offsets[i + 1] = offsets[i] + values[i].length;
+        }
+
+        String[] flatValues = new String[offsets[categories.length]];
+
+        for (int i = 0; i < values.length; i++) {
+            System.arraycopy(values[i], 0, flatValues, offsets[i], values[i].length);
+        }
+
+        this.categories = categories;
+        this.categoryOffsets = offsets;
+        this.values = new ArrayValuePool(flatValues);
+        this.weights = null;
+    }
+
+    /**
+     * Creates the dataset from the category names, the category offsets table and the flat array of values
+     * of all the categories. The offsets table holds the index of the first value of each category
+     * in the array and the total number of values as the last element.
+     * Arrays are not copied and must not be modified afterwards.
+     *
+     * @throws IllegalArgumentException if offsets table does not match categories and values
+     */
+    public Dataset(String[] categories, int[] categoryOffsets, String[] values) {
+        this(categories, categoryOffsets, new ArrayValuePool(values), null);
+    }
+
+    /**
+     * Creates the dataset from the category names, the category offsets table, the flat array of values
+     * of all the categories and the weights of the values (or null, if values have no weights).
+     * Arrays are not copied and must not be modified afterwards.
+     *
+     * @throws IllegalArgumentException if offsets table or weights do not match categories and values
+     */
+    public Dataset(String[] categories, int[] categoryOffsets, String[] values, double[] weights) {
+        this(categories, categoryOffsets, new ArrayValuePool(values), weights);
+    }
+
+    /**
+     * Creates the dataset from the category names, the category offsets table, the pool of values
+     * and the weights of the values (or null, if values have no weights).
+     * The offsets table holds the index of the first value of each category in the pool
+     * and the total number of values as the last element.
+     *
+     * @throws IllegalArgumentException if offsets table or weights do not match categories and pool of values
+     */
+    Dataset(String[] categories, int[] categoryOffsets, ValuePool values, double[] weights) {
+        if(categoryOffsets.length != categories.length + 1
+                || categoryOffsets[categories.length] != values.size()){
+            throw new IllegalArgumentException("Category offsets " + Arrays.toString(categoryOffsets)
+                    + " do not match " + categories.length + " categories and " + values.size() + " values");
+        }
+
+        if(weights != null && weights.length != values.size()){
+            throw new IllegalArgumentException("Dataset has " + values.size() + " values, but "
+                    + weights.length + " weights");
+        }
+
+        this.categories = categories;
+        this.categoryOffsets = categoryOffsets;
+        this.values = values;
+        this.weights = weights;
+    }
+
+    /**
+     * Returns number of categories in the dataset.
+     */
+    public int categoryCount() {
+        return categories.length;
+    }
+
+    /**
+     * Returns the name of the category on the specified index.
+     */
+    public String getCategory(int category) {
+        return categories[category];
+    }
+
+    /**
+     * Returns number of values stored under the category on the specified index.
+     */
+    public int categorySize(int category) {
+        return categoryOffsets[category + 1] - categoryOffsets[category];
+    }
+
+    /**
+     * Returns the flat index of the first value of the category on the specified index.
+     */
+    public int categoryStart(int category) {
+        return categoryOffsets[category];
+    }
+
+    /**
+     * Returns the index of the category, the value on the specified flat index belongs to.
+     * The category is found by the binary search in the category offsets table, with no allocation.
+     */
+    public int categoryOf(int flatIndex) {
+        int low = 0;
+        int high = categories.length - 1;
+
+        while(low < high){
+            int middle = (low + high + 1) >>> 1;
+
+            if(categoryOffsets[middle] <= flatIndex){
+                low = middle;
+            }
+
+            else{
+                high = middle - 1;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns the value on the specified index of the specified category.
+     */
+    public String getValue(int category, int index) {
+        return values.get(categoryOffsets[category] + index);
+    }
+
+    /**
+     * Returns the value on the specified flat index (values of all the categories go one after another).
+     */
+    public String getValue(int flatIndex) {
+        return values.get(flatIndex);
+    }
+
+    /**
+     * Returns total number of values in all the categories of the dataset.
+     */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Returns true if values of the dataset have weights.
+     */
+    public boolean hasWeights() {
+        return weights != null;
+    }
+
+    /**
+     * Returns the weight of the value on the specified flat index. If values have no weights,
+     * every value has the weight of 1.
+     */
+    public double getWeight(int flatIndex) {
+        if(weights == null){
+            Objects.checkIndex(flatIndex, values.size());
+            return 1;
+        }
+
+        return weights[flatIndex];
+    }
+
+    /**
+     * Returns the alias table for weighted selection of the flat index of the value from all the values,
+     * or null if values have no weights. The table is built on the first request.
+     *
+     * @throws IllegalArgumentException if weights are not valid (refer to AliasTable)
+     */
+    public AliasTable getAliasTable() {
+        AliasTable table = aliasTable;
+
+        if(table == null && weights != null){
+            table = new AliasTable(weights);
+            aliasTable = table;
+        }
+
+        return table;
+    }
+
+    /**
+     * Returns the alias table for weighted selection of the value from the category on the specified index
+     * (indexes selected are relative to the start of the category), or null if values have no weights.
+     * Tables for all the categories are built on the first request.
+     *
+     * @throws IllegalArgumentException if weights of the category are not valid (refer to AliasTable)
+     */
+    public AliasTable getCategoryAliasTable(int category) {
+        AliasTable[] tables = categoryAliasTables;
+
+        if(tables == null && weights != null){
+            tables = new AliasTable[categories.length];
+
+            for (int i = 0; i < tables.length; i++) {
+                tables[i] = categorySize(i) == 0 ? null
+                        : new AliasTable(weights, categoryOffsets[i], categoryOffsets[i + 1]);
+            }
+
+            categoryAliasTables = tables;
+        }
+
+        return tables == null ? null : tables[category];
+    }
+
+    /**
+     * Returns the index for the selection of values by ValueConstraint (length range, first character,
+     * ASCII only). The index is built on the first request.
+     */
+    public DatasetIndex getIndex() {
+        DatasetIndex datasetIndex = index;
+
+        if(datasetIndex == null){
+            datasetIndex = new DatasetIndex(this);
+            index = datasetIndex;
+        }
+
+        return datasetIndex;
+    }
+
+    /**
+     * Converts the dataset into HashMap&lt;String, List&lt;String&gt;&gt;, where the key is
+     * the category name and the value is the unmodifiable list of values, stored under this category.
+     *
+     * @return HashMap&lt;String, List&lt;String&gt;&gt;
+     */
+    public HashMap<String, List<String>> toHashMap() {
+        HashMap<String, List<String>> map = new HashMap<>();
+
+        for (int i = 0; i < categories.length; i++) {
+            List<String> categoryValues = new ArrayList<>(categorySize(i));
+
+            for (int j = categoryOffsets[i]; j < categoryOffsets[i + 1]; j++) {
+                categoryValues.add(values.get(j));
+            }
+
+            map.put(categories[i], Collections.unmodifiableList(categoryValues));
+        }
+
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return "Dataset{categories=" + Arrays.toString(categories) + ", size=" + size() + "}";
+    }
+}
@@ -0,0 +1,298 @@
+package selmok.datagenerator.utils.datasets;
+
+import selmok.datagenerator.services.RandomService;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * This is the index of the dataset for the selection of values by ValueConstraint (length range, first character,
+ * ASCII only) with no retries. Values of every category are kept in the buckets: one for all the values and
+ * one per first character (folded to the upper case), with separate set of buckets for ASCII values only.
+ * Flat indexes of the values in every bucket are sorted by length, and the table of length ends holds the number
+ * of values with length up to every length, so that values of the length range are the continuous part
+ * of the bucket, found with two lookups.
+ *
+ * The selection takes O(1) time (plus the binary search of the first character among the first characters
+ * of the category) and one random number, no matter how many values match the constraint, and the constraint
+ * that matches no value is detected with no random numbers at all.
+ * The index is built once in O(n) and is immutable, so it can be shared by any number of threads.
+ *
+ * @author Cas
+ */
+public final class DatasetIndex {
+    private final Dataset dataset;
+
+    /**
+     * Indexes of the categories: all the values on index 0, ASCII values only on index 1.
+     */
+    private final CategoryIndex[][] categoryIndexes;
+
+    /**
+     * Builds the index of all the values of the dataset.
+     */
+    DatasetIndex(Dataset dataset) {
+        int size = dataset.size();
+        int[] lengths = new int[size];
+        int[] firstCodePoints = new int[size];
+        boolean[] ascii = new boolean[size];
+
+        for (int i = 0; i < size; i++) {
+            String value = dataset.getValue(i);
+            lengths[i] = value.codePointCount(0, value.length());
+            firstCodePoints[i] = value.isEmpty() ? -1 : foldCase(value.codePointAt(0));
+            ascii[i] = isAscii(value);
+        }
+
+        this.dataset = dataset;
+        this.categoryIndexes = new CategoryIndex[dataset.categoryCount()][];
+
+        for (int category = 0; category < categoryIndexes.length; category++) {
+            int from = dataset.categoryStart(category);
+            int to = from + dataset.categorySize(category);
+            int[] all = new int[to - from];
+            int[] asciiOnly = new int[to - from];
+            int asciiCount = 0;
+
+            for (int i = from; i < to; i++) {
+                all[i - from] = i;
+
+                if(ascii[i]){
+                    asciiOnly[asciiCount++] = i;
+                }
+            }
+
+            CategoryIndex allIndex = new CategoryIndex(all, lengths, firstCodePoints);
+            categoryIndexes[category] = new CategoryIndex[]{allIndex, asciiCount == all.length ? allIndex
+                    : new CategoryIndex(Arrays.copyOf(asciiOnly, asciiCount), lengths, firstCodePoints)};
+        }
+    }
+
+    /**
+     * Returns the dataset of this index.
+     */
+    public Dataset getDataset() {
+        return dataset;
+    }
+
+    /**
+     * Returns the number of values of all the categories, that match the constraint.
+     */
+    public int count(ValueConstraint constraint){
+        int count = 0;
+
+        for (int category = 0; category < categoryIndexes.length; category++) {
+            count += count(category, constraint);
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the number of values of the category on the specified index, that match the constraint.
+     */
+    public int count(int category, ValueConstraint constraint){
+        LengthIndex bucket = bucket(category, constraint);
+        return bucket == null ? 0 : bucket.count(constraint.getMinLength(), constraint.getMaxLength());
+    }
+
+    /**
+     * Selects the random flat index of the value from all the values, that match the constraint, so that
+     * every such value has the same probability to be selected, no matter which category it belongs to.
+     *
+     * @param constraint the constraint of the value
+     * @param random     the random service to select the value with
+     * @return the flat index of the value, or -1 if no value matches the constraint
+     */
+    public int select(ValueConstraint constraint, RandomService random){
+        if(categoryIndexes.length == 1){
+            return select(0, constraint, random);
+        }
+
+        int total = count(constraint);
+
+        if(total == 0){
+            return -1;
+        }
+
+        int index = random.nextInt(total);
+
+        for (int category = 0; ; category++) {
+            int count = count(category, constraint);
+
+            if(index < count){
+                return get(category, constraint, index);
+            }
+
+            index -= count;
+        }
+    }
+
+    /**
+     * Returns the flat index of the value on the specified index among the values of the category, that match
+     * the constraint (e.g. to select the value with the random number, already drawn).
+     *
+     * @param category   the index of the category
+     * @param constraint the constraint of the value
+     * @param index      the index of the value among the values, that match the constraint
+     * @return the flat index of the value
+     * @throws IndexOutOfBoundsException if the index is not less then count(category, constraint)
+     */
+    public int get(int category, ValueConstraint constraint, int index){
+        LengthIndex bucket = bucket(category, constraint);
+        int count = bucket == null ? 0 : bucket.count(constraint.getMinLength(), constraint.getMaxLength());
+        return bucket.get(constraint.getMinLength(), Objects.checkIndex(index, count));
+    }
+
+    /**
+     * Selects the random flat index of the value from the values of the category on the specified index,
+     * that match the constraint.
+     *
+     * @param category   the index of the category
+     * @param constraint the constraint of the value
+     * @param random     the random service to select the value with
+     * @return the flat index of the value, or -1 if no value of the category matches the constraint
+     */
+    public int select(int category, ValueConstraint constraint, RandomService random){
+        LengthIndex bucket = bucket(category, constraint);
+        int count = bucket == null ? 0 : bucket.count(constraint.getMinLength(), constraint.getMaxLength());
+        return count == 0 ? -1 : bucket.get(constraint.getMinLength(), random.nextInt(count));
+    }
+
+    private LengthIndex bucket(int category, ValueConstraint constraint){
+        return categoryIndexes[category][constraint.isAsciiOnly() ? 1 : 0].bucket(constraint.getFirstCodePoint());
+    }
+
+    /**
+     * Folds the code point to the upper case, so that first characters are compared ignoring case.
+     */
+    static int foldCase(int codePoint){
+        return Character.toUpperCase(codePoint);
+    }
+
+    private static boolean isAscii(String value){
+        for (int i = 0; i < value.length(); i++) {
+            if(value.charAt(i) > 0x7F){
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * The buckets of the values of one category: all of them and the values with every first code point.
+     */
+    private static final class CategoryIndex {
+        private final LengthIndex all;
+        private final int[] firstCodePoints;
+        private final LengthIndex[] byFirstCodePoint;
+
+        CategoryIndex(int[] members, int[] lengths, int[] valueFirstCodePoints) {
+            this.all = new LengthIndex(members, lengths);
+            this.firstCodePoints = Arrays.stream(members).map(member -> valueFirstCodePoints[member])
+                    .filter(codePoint -> codePoint >= 0).distinct().sorted().toArray();
+            this.byFirstCodePoint = new LengthIndex[firstCodePoints.length];
+
+            int[] bucketSizes = new int[firstCodePoints.length];
+            int[] memberBuckets = new int[members.length];
+
+            for (int i = 0; i < members.length; i++) {
+                int codePoint = valueFirstCodePoints[members[i]];
+                memberBuckets[i] = codePoint < 0 ? -1 : Arrays.binarySearch(firstCodePoints, codePoint);
+
+                if(memberBuckets[i] >= 0){
+                    bucketSizes[memberBuckets[i]]++;
+                }
+            }
+
+            int[][] bucketMembers = new int[firstCodePoints.length][];
+
+            for (int i = 0; i < bucketMembers.length; i++) {
+                bucketMembers[i] = new int[bucketSizes[i]];
+                bucketSizes[i] = 0;
+            }
+
+            for (int i = 0; i < members.length; i++) {
+                if(memberBuckets[i] >= 0){
+                    bucketMembers[memberBuckets[i]][bucketSizes[memberBuckets[i]]++] = members[i];
+                }
+            }
+
+            for (int i = 0; i < bucketMembers.length; i++) {
+                byFirstCodePoint[i] = new LengthIndex(bucketMembers[i], lengths);
+            }
+        }
+
+        /**
+         * Returns the bucket of the values with the first code point, or all the values if the code point
+         * is negative, or null if no value starts with the code point.
+         */
+        LengthIndex bucket(int firstCodePoint){
+            if(firstCodePoint < 0){
+                return all;
+            }
+
+            int bucket = Arrays.binarySearch(firstCodePoints, firstCodePoint);
+            return bucket < 0 ? null : byFirstCodePoint[bucket];
+        }
+    }
+
+    /**
+     * The flat indexes of the values, sorted by length (with counting sort), and the number of values with
+     * length up to every length.
+     */
+    private static final class LengthIndex {
+        private final int[] flatIndexes;
+        private final int[] lengthEnds;
+
+        LengthIndex(int[] members, int[] lengths) {
+            int maxLength = 0;
+
+            for (int member : members) {
+                maxLength = Math.max(maxLength, lengths[member]);
+            }
+
+            int[] ends = new int[maxLength + 1];
+
+            for (int member : members) {
+                ends[lengths[member]]++;
+            }
+
+            for (int length = 1; length <= maxLength; length++) {
+                ends[length] += ends[length - 1];
+            }
+
+            int[] sorted = new int[members.length];
+
+            for (int i = members.length - 1; i >= 0; i--) {
+                sorted[--ends[lengths[members[i]]]] = members[i];
+            }
+
+            // after placement every element holds the start of its length, so it is shifted to hold the end
+            System.arraycopy(ends, 1, ends, 0, maxLength);
+            ends[maxLength] = members.length;
+
+            this.flatIndexes = sorted;
+            this.lengthEnds = ends;
+        }
+
+        /**
+         * Returns the number of values with length up to the specified one.
+         */
+        private int end(int length){
+            return length < 0 ? 0 : length >= lengthEnds.length ? flatIndexes.length : lengthEnds[length];
+        }
+
+        int count(int minLength, int maxLength){
+            return end(maxLength) - end(minLength - 1);
+        }
+
+        /**
+         * Returns the flat index of the value on the specified index among the values of minimal length or longer.
+         */
+        int get(int minLength, int index){
+            return flatIndexes[end(minLength - 1) + index];
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package selmok.datagenerator.utils.datasets;
+
+import selmok.datagenerator.utils.dateparser.jsonparser.JSONStreamingLoader;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The utility class, used to load datasets of fake values by the name of the source resource
+ * (e.g. "ukr/name/us_name") and json pointers. The sources are tried in the following order:
+ * <ol>
+ *     <li>dictionary, that overrides the resource (e.g. reloaded by DictionaryWatcher from the changed file
+ *     of the watched directory), refer to override(String, BinaryDictionary);</li>
+ *     <li>binary dictionary, compiled by the build and packaged under faker_bin/ on the classpath.
+ *     If it is a plain file, it is memory-mapped directly, and if it is packaged inside the jar, it is
+ *     extracted once into the cache directory (system property "selmok.dictionaries.cache.dir",
+ *     by default "selmok-dictionaries" in java.io.tmpdir) and memory-mapped from there;</li>
+ *     <li>source json file on disk (e.g. when the generator is run from the project directory with
+ *     no build done);</li>
+ *     <li>source json file under faker_date/ on the classpath.</li>
+ * </ol>
+ * Json sources are read by JSONStreamingLoader.
+ *
+ * @author Cas
+ */
+public class DatasetLoader {
+    public static final String BINARY_RESOURCES_ROOT = "faker_bin/";
+    public static final String JSON_RESOURCES_ROOT = "faker_date/";
+    public static final String CACHE_DIR_PROPERTY = "selmok.dictionaries.cache.dir";
+
+    /**
+     * Binary dictionaries, already opened by the resource name. Empty Optional is stored for the
+     * resources, that have no binary dictionary on the classpath.
+     */
+    private static final ConcurrentHashMap<String, Optional<BinaryDictionary>> BINARY_DICTIONARIES =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Dictionaries, that override the sources of the resources, by the resource name. Every dictionary holds
+     * all the datasets of the resource, so that they are all replaced at once.
+     */
+    private static final ConcurrentHashMap<String, BinaryDictionary> OVERRIDES = new ConcurrentHashMap<>();
+
+    /**
+     * Loads the datasets by the json pointers provided from the first source available for the resource.
+     * The datasets are returned in the same order as the pointers.
+     *
+     * @param resourceName the name of the resource (relative path with no extension, e.g. "ukr/name/us_name")
+     * @param jsonFile     the source json file on disk, used if there is no binary dictionary
+     * @param jsonPointers a list of JSON Pointer paths to load datasets by
+     * @return a list of datasets loaded
+     * @throws IOException if an I/O error occurs, there is no source for the resource or any pointer is not found
+     */
+    public static List<Dataset> load(String resourceName, File jsonFile, List<String> jsonPointers)
+            throws IOException {
+        BinaryDictionary override = OVERRIDES.get(resourceName);
+
+        if(override != null){
+            if(!override.getJsonPointers().containsAll(jsonPointers)){
+                throw new IOException("Json pointers " + jsonPointers + " are not found in the overridden datasets of "
+                        + resourceName + ", found: " + override.getJsonPointers());
+            }
+
+            return getDatasets(override, jsonPointers);
+        }
+
+        BinaryDictionary dictionary = getBinaryDictionary(resourceName);
+
+        if(dictionary != null && dictionary.getJsonPointers().containsAll(jsonPointers)){
+            return getDatasets(dictionary, jsonPointers);
+        }
+
+        if(jsonFile.isFile()){
+            return JSONStreamingLoader.readDatasetsByFewJsonPaths(jsonFile, jsonPointers);
+        }
+
+        try (InputStream jsonResource = DatasetLoader.class.getClassLoader()
+                .getResourceAsStream(JSON_RESOURCES_ROOT + resourceName + ".json")) {
+
+            if(jsonResource == null){
+                throw new FileNotFoundException("There is no source for the datasets of " + resourceName
+                        + ": neither binary dictionary, nor json file " + jsonFile.getPath()
+                        + " or json resource on the classpath found");
+            }
+
+            return JSONStreamingLoader.readDatasetsByFewJsonPaths(jsonResource, jsonPointers);
+        }
+    }
+
+    /**
+     * Overrides all the sources of the resource with the dictionary provided (e.g. built from the changed json file),
+     * replacing the previous override at once, so that the datasets of the resource, loaded afterwards (including
+     * the ones evicted from the cache), are all taken from the same dictionary.
+     *
+     * @param resourceName the name of the resource (relative path with no extension, e.g. "ukr/name/us_name")
+     * @param dictionary   the dictionary with all the datasets of the resource
+     */
+    public static void override(String resourceName, BinaryDictionary dictionary){
+        OVERRIDES.put(resourceName, dictionary);
+    }
+
+    /**
+     * Removes the override of the resource, if it is still the dictionary provided, so that the datasets
+     * of the resource are loaded from its own sources again.
+     *
+     * @param resourceName the name of the resource
+     * @param dictionary   the dictionary, that overrides the resource
+     * @return true if the override was removed
+     */
+    public static boolean removeOverride(String resourceName, BinaryDictionary dictionary){
+        return OVERRIDES.remove(resourceName, dictionary);
+    }
+
+    private static List<Dataset> getDatasets(BinaryDictionary dictionary, List<String> jsonPointers){
+        List<Dataset> datasets = new ArrayList<>(jsonPointers.size());
+
+        for (String jsonPointer : jsonPointers) {
+            datasets.add(dictionary.getDataset(jsonPointer));
+        }
+
+        return datasets;
+    }
+
+    /**
+     * Returns the binary dictionary for the resource, or null if there is no binary dictionary on the classpath.
+     * The dictionary is opened only once and then reused.
+     *
+     * @param resourceName the name of the resource (relative path with no extension, e.g. "ukr/name/us_name")
+     * @return BinaryDictionary or null
+     * @throws IOException if an I/O error occurs while opening the dictionary
+     */
+    public static BinaryDictionary getBinaryDictionary(String resourceName) throws IOException {
+        Optional<BinaryDictionary> dictionary = BINARY_DICTIONARIES.get(resourceName);
+
+        if(dictionary == null){
+            try {
+                dictionary = BINARY_DICTIONARIES.computeIfAbsent(resourceName, DatasetLoader::openBinaryDictionary);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+
+        return dictionary.orElse(null);
+    }
+
+    private static Optional<BinaryDictionary> openBinaryDictionary(String resourceName){
+        String resourcePath = BINARY_RESOURCES_ROOT + resourceName + BinaryDictionary.FILE_EXTENSION;
+        URL resource = DatasetLoader.class.getClassLoader().getResource(resourcePath);
+
+        if(resource == null){
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(BinaryDictionary.open(resolveDictionaryFile(resource, resourcePath)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the path to the binary dictionary file: the resource itself if it is a plain file,
+     * or its copy in the cache directory, extracted if it is not there yet.
+     */
+    private static Path resolveDictionaryFile(URL resource, String resourcePath) throws IOException {
+        if("file".equals(resource.getProtocol())){
+            try {
+                return Paths.get(resource.toURI());
+            } catch (URISyntaxException e) {
+                throw new IOException("Resource URL is malformed: " + resource, e);
+            }
+        }
+
+        URLConnection connection = resource.openConnection();
+        connection.setUseCaches(false);
+        long length = connection.getContentLengthLong();
+        Path cacheDir = Paths.get(System.getProperty(CACHE_DIR_PROPERTY,
+                Paths.get(System.getProperty("java.io.tmpdir"), "selmok-dictionaries").toString()));
+        Path dictionaryFile = cacheDir.resolve(resourcePath.substring(0, resourcePath.length()
+                - BinaryDictionary.FILE_EXTENSION.length()) + "-" + length + "-" + connection.getLastModified()
+                + BinaryDictionary.FILE_EXTENSION);
+
+        if(Files.isRegularFile(dictionaryFile) && Files.size(dictionaryFile) == length){
+            return dictionaryFile;
+        }
+
+        Files.createDirectories(dictionaryFile.getParent());
+        Path tempFile = Files.createTempFile(dictionaryFile.getParent(), "extract", ".tmp");
+
+        try (InputStream inputStream = connection.getInputStream()) {
+            Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tempFile, dictionaryFile, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+
+        return dictionaryFile;
+    }
+}
@@ -0,0 +1,58 @@
+package selmok.datagenerator.utils.datasets;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The ValuePool, that keeps all the values encoded in UTF-8 in the byte buffer (string pool)
+ * with the index of their offsets. When the buffer is memory-mapped from the binary dictionary file,
+ * the values stay off-heap and are decoded only when requested, so that the decoded values are never kept
+ * by the pool. If the string pool is on the heap (e.g. it was deflated), values are decoded right from its array
+ * with no copy of the bytes. Only absolute reads are used on the buffers, so the pool can be shared by any
+ * number of threads.
+ *
+ * @author Cas
+ */
+final class MappedValuePool implements ValuePool {
+    private final ByteBuffer stringPool;
+    private final IntBuffer valueOffsets;
+    private final int firstValue;
+    private final int size;
+
+    /**
+     * Creates the pool of values from firstValue (inclusive) to firstValue + size (exclusive)
+     * of the string pool. The offsets index holds byte offset of every value in the string pool
+     * and the end offset of the last value.
+     */
+    MappedValuePool(ByteBuffer stringPool, IntBuffer valueOffsets, int firstValue, int size) {
+        this.stringPool = stringPool;
+        this.valueOffsets = valueOffsets;
+        this.firstValue = firstValue;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String get(int index) {
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+
+        int start = valueOffsets.get(firstValue + index);
+        int length = valueOffsets.get(firstValue + index + 1) - start;
+
+        if(stringPool.hasArray()){
+            return new String(stringPool.array(), stringPool.arrayOffset() + start, length, StandardCharsets.UTF_8);
+        }
+
+        byte[] encoded = new byte[length];
+        stringPool.get(start, encoded);
+
+        return new String(encoded, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,124 @@
+package selmok.datagenerator.utils.datasets;
+
+/**
+ * This is the constraint of the fake values, selected from the dataset (e.g. first names of at most 10 characters,
+ * starting with "K", with ASCII characters only), used to fit the values into the form fields. The constraint is
+ * immutable: every method returns the new constraint with one more condition, e.g.
+ * ValueConstraint.any().maxLength(10).startingWith('K').asciiOnly().
+ *
+ * Values are selected by the constraint with DatasetIndex, with no retries, so the constraint that matches only
+ * few values costs the same as the one that matches all of them. Lengths are measured in code points.
+ *
+ * @author Cas
+ */
+public final class ValueConstraint {
+    private static final ValueConstraint ANY = new ValueConstraint(0, Integer.MAX_VALUE, -1, false);
+
+    private final int minLength;
+    private final int maxLength;
+    private final int firstCodePoint;
+    private final boolean asciiOnly;
+
+    private ValueConstraint(int minLength, int maxLength, int firstCodePoint, boolean asciiOnly) {
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.firstCodePoint = firstCodePoint;
+        this.asciiOnly = asciiOnly;
+    }
+
+    /**
+     * Returns the constraint, that matches any value.
+     */
+    public static ValueConstraint any(){
+        return ANY;
+    }
+
+    /**
+     * Returns the constraint, that additionally requires the value to have at least the specified length.
+     *
+     * @param minLength the minimal length of the value in code points
+     * @throws IllegalArgumentException if the length is negative or bigger then the maximal length
+     */
+    public ValueConstraint minLength(int minLength){
+        if(minLength < 0 || minLength > maxLength){
+            throw new IllegalArgumentException("Minimal length must be in range [0, " + maxLength + "], but was: "
+                    + minLength);
+        }
+
+        return new ValueConstraint(minLength, maxLength, firstCodePoint, asciiOnly);
+    }
+
+    /**
+     * Returns the constraint, that additionally requires the value to have at most the specified length.
+     *
+     * @param maxLength the maximal length of the value in code points
+     * @throws IllegalArgumentException if the length is less then the minimal length
+     */
+    public ValueConstraint maxLength(int maxLength){
+        if(maxLength < minLength){
+            throw new IllegalArgumentException("Maximal length must not be less then " + minLength + ", but was: "
+                    + maxLength);
+        }
+
+        return new ValueConstraint(minLength, maxLength, firstCodePoint, asciiOnly);
+    }
+
+    /**
+     * Returns the constraint, that additionally requires the value to start with the specified character,
+     * ignoring case (e.g. 'k' matches "Kateryna").
+     *
+     * @param firstChar the first character of the value
+     */
+    public ValueConstraint startingWith(char firstChar){
+        return startingWithCodePoint(firstChar);
+    }
+
+    /**
+     * Returns the constraint, that additionally requires the value to start with the specified code point,
+     * ignoring case.
+     *
+     * @param codePoint the first code point of the value
+     * @throws IllegalArgumentException if the code point is not valid
+     */
+    public ValueConstraint startingWithCodePoint(int codePoint){
+        if(!Character.isValidCodePoint(codePoint)){
+            throw new IllegalArgumentException("First character must be valid code point, but was: " + codePoint);
+        }
+
+        return new ValueConstraint(minLength, maxLength, DatasetIndex.foldCase(codePoint), asciiOnly);
+    }
+
+    /**
+     * Returns the constraint, that additionally requires the value to consist of ASCII characters only.
+     */
+    public ValueConstraint asciiOnly(){
+        return new ValueConstraint(minLength, maxLength, firstCodePoint, true);
+    }
+
+    public int getMinLength() {
+        return minLength;
+    }
+
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Returns the first code point of the values (folded to the upper case), or -1 if any first code point
+     * is allowed.
+     */
+    public int getFirstCodePoint() {
+        return firstCodePoint;
+    }
+
+    public boolean isAsciiOnly() {
+        return asciiOnly;
+    }
+
+    @Override
+    public String toString() {
+        return "ValueConstraint{length=[" + minLength + ", " + maxLength + "]"
+                + (firstCodePoint < 0 ? "" : ", startingWith=" + new String(Character.toChars(firstCodePoint)))
+                + (asciiOnly ? ", asciiOnly" : "") + "}";
+    }
+}
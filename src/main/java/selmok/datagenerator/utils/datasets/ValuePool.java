@@ -0,0 +1,22 @@
+package selmok.datagenerator.utils.datasets;
+
+/**
+ * Represents the storage of all the values of the Dataset, addressed by the flat index
+ * (values of all the categories go one after another).
+ * The storage can be either on-heap String array or off-heap buffer with encoded values
+ * (e.g. memory-mapped binary dictionary).
+ *
+ * @author Cas
+ */
+public interface ValuePool {
+
+    /**
+     * Returns number of values in the pool.
+     */
+    int size();
+
+    /**
+     * Returns the value on the specified flat index.
+     */
+    String get(int index);
+}
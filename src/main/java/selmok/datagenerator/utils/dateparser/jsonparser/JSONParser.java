@@ -5,11 +5,14 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The utility class, used to read values from json and interact with them
@@ -20,6 +23,12 @@ import java.util.List;
 public class JSONParser {
     private static ObjectMapper objectMapper = new ObjectMapper();
 
+    /**
+     * ObjectReaders, already created for the types deserialized. ObjectReader is immutable and
+     * thread-safe, so it is created only once per type and reused for every further read.
+     */
+    private static final ConcurrentHashMap<Type, ObjectReader> OBJECT_READERS = new ConcurrentHashMap<>();
+
     /**
      * static code block, used to configure the ObjectMapper object.
      * The ObjectMapper object confiuration are mostly strict and can be changed, but for
@@ -82,24 +91,64 @@ public class JSONParser {
      * @see com.fasterxml.jackson.core.type.TypeReference
      */
     public static <T> T getObjectFromString(String json, TypeReference<T> obj) throws JsonProcessingException {
-       return objectMapper.readValue(json, obj);
+       return getObjectReader(obj).readValue(json);
+    }
+
+    /**
+     * Returns the ObjectReader for the type, represented by the provided TypeReference.
+     * The reader is created on the first request for the type and cached for further reuse.
+     *
+     * @param obj the TypeReference representing the type of object to deserialize into
+     * @return ObjectReader for the specified type
+     * @see com.fasterxml.jackson.core.type.TypeReference
+     */
+    public static ObjectReader getObjectReader(TypeReference<?> obj){
+        ObjectReader reader = OBJECT_READERS.get(obj.getType());
+
+        if(reader == null){
+            reader = OBJECT_READERS.computeIfAbsent(obj.getType(), type -> objectMapper.readerFor(obj));
+        }
+
+        return reader;
+    }
+
+    /**
+     * Deserializes the JSON node directly into an object of the specified type using Jackson's TypeReference,
+     * with no intermediate JSON string created.
+     *
+     * @param node the JsonNode object to deserialize
+     * @param obj  the TypeReference representing the type of object to deserialize into
+     * @return an object of the specified type deserialized from the JSON node
+     * @throws IOException if an error occurs during JSON processing
+     * @see com.fasterxml.jackson.core.type.TypeReference
+     */
+    public static <T> T getObjectFromJsonNode(JsonNode node, TypeReference<T> obj) throws IOException {
+        return getObjectReader(obj).readValue(node);
     }
 
     /**
      * Retrieves a specific object from a JSON node at the specified JSON Pointer path and deserializes it into
      * an object of the specified type using Jackson's TypeReference.
+     * The node found is bound to the object directly, without serialization into the JSON string.
+     * If there is no node found by the path, IOException is thrown.
      *
      * @param node     the JsonNode object to search
      * @param jsonPath the JSON Pointer path to search for
      * @param obj      the TypeReference representing the type of object to deserialize into
      * @return an object of the specified type deserialized from the JSON node found at the specified path
-     * @throws JsonProcessingException if an error occurs during JSON processing
+     * @throws IOException if an error occurs during JSON processing
      * @see <a href="https://tools.ietf.org/html/rfc6901">JSON Pointer</a>
      * @see com.fasterxml.jackson.core.type.TypeReference
      */
     public static <T> T getSpecificObjFromJsonNodeByPath(JsonNode node, String jsonPath,
-                                                         TypeReference<T> obj) throws JsonProcessingException {
-       return getObjectFromString(getJsonStringByPath(node, jsonPath), obj);
+                                                         TypeReference<T> obj) throws IOException {
+       JsonNode specificNode = findNodeByJsonPointer(node, jsonPath);
+
+       if(specificNode.isMissingNode()){
+           throw new IOException("There is no JSON node found by the path: " + jsonPath);
+       }
+
+       return getObjectFromJsonNode(specificNode, obj);
     }
 
     /**
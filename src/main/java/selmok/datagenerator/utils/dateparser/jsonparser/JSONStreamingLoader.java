@@ -0,0 +1,278 @@
+package selmok.datagenerator.utils.dateparser.jsonparser;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import selmok.datagenerator.utils.datasets.Dataset;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The utility class, used to load datasets of fake values from the json files with the
+ * token-level streaming parser, without building the JsonNode tree of the whole document.
+ * Only the objects on the way to the json pointers requested are walked into, all other subtrees
+ * are skipped, and the arrays of values found by the pointers are written directly into
+ * compact flat String array of the Dataset objects.
+ *
+ * The object found by the json pointer is expected to hold the categories of values as
+ * arrays of scalars (e.g. "female_first_name": ["Emma", ...]). A plain array found by the pointer
+ * is loaded as the dataset with the single category, named as the last pointer segment.
+ * Single scalar is accepted as the array of one value.
+ * Any value can be written as the object with the weight for weighted random selection
+ * (e.g. {"value": "Smith", "weight": 2442977}); values with no weight have the weight of 1.
+ *
+ * @author Cas
+ */
+public class JSONStreamingLoader {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final int INITIAL_VALUES_CAPACITY = 64;
+
+    private static final int INITIAL_CATEGORIES_CAPACITY = 4;
+
+    /**
+     * Loads the datasets by the json pointers provided from the json file.
+     * The datasets are returned in the same order as the pointers.
+     *
+     * @param file         the JSON file to read
+     * @param jsonPointers a list of JSON Pointer paths to load datasets by
+     * @return a list of datasets loaded
+     * @throws IOException if an I/O error occurs while reading the file or any pointer is not found
+     * @see <a href="https://tools.ietf.org/html/rfc6901">JSON Pointer</a>
+     */
+    public static List<Dataset> readDatasetsByFewJsonPaths(File file, List<String> jsonPointers)
+            throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(file)) {
+            return readDatasetsByFewJsonPaths(parser, jsonPointers, file.getPath());
+        }
+    }
+
+    /**
+     * Loads the datasets by the json pointers provided from the json input stream.
+     * The datasets are returned in the same order as the pointers. The stream is not closed.
+     *
+     * @param inputStream  the stream with JSON content to read
+     * @param jsonPointers a list of JSON Pointer paths to load datasets by
+     * @return a list of datasets loaded
+     * @throws IOException if an I/O error occurs while reading the stream or any pointer is not found
+     * @see <a href="https://tools.ietf.org/html/rfc6901">JSON Pointer</a>
+     */
+    public static List<Dataset> readDatasetsByFewJsonPaths(InputStream inputStream, List<String> jsonPointers)
+            throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return readDatasetsByFewJsonPaths(parser, jsonPointers, "input stream");
+        }
+    }
+
+    private static List<Dataset> readDatasetsByFewJsonPaths(JsonParser parser, List<String> jsonPointers,
+                                                            String source) throws IOException {
+        Set<String> pathsToWalk = new HashSet<>();
+
+        for (String jsonPointer : jsonPointers) {
+            for (int i = jsonPointer.indexOf('/', 1); i > 0; i = jsonPointer.indexOf('/', i + 1)) {
+                pathsToWalk.add(jsonPointer.substring(0, i));
+            }
+        }
+
+        Map<String, Dataset> loaded = new HashMap<>();
+
+        if(parser.nextToken() == JsonToken.START_OBJECT){
+            walkObject(parser, "", new HashSet<>(jsonPointers), pathsToWalk, loaded);
+        }
+
+        List<Dataset> datasets = new ArrayList<>(jsonPointers.size());
+
+        for (String jsonPointer : jsonPointers) {
+            Dataset dataset = loaded.get(jsonPointer);
+
+            if(dataset == null){
+                throw new IOException("There is no JSON node found by the path: " + jsonPointer
+                        + " in " + source);
+            }
+
+            datasets.add(dataset);
+        }
+
+        return datasets;
+    }
+
+    /**
+     * Walks through the fields of the object the parser is positioned on (START_OBJECT token).
+     * Loads the datasets for the fields requested, walks into the objects on the way to them
+     * and skips everything else.
+     */
+    private static void walkObject(JsonParser parser, String path, Set<String> requested,
+                                   Set<String> pathsToWalk, Map<String, Dataset> loaded) throws IOException {
+        while(parser.nextToken() == JsonToken.FIELD_NAME){
+            String fieldName = parser.currentName();
+            String fieldPath = path + "/" + escapePointerSegment(fieldName);
+            JsonToken valueToken = parser.nextToken();
+
+            if(requested.contains(fieldPath)){
+                loaded.put(fieldPath, readDataset(parser, fieldName));
+            }
+
+            else if(valueToken == JsonToken.START_OBJECT && pathsToWalk.contains(fieldPath)){
+                walkObject(parser, fieldPath, requested, pathsToWalk, loaded);
+            }
+
+            else{
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Reads the dataset from the value the parser is positioned on: either the object of categories
+     * or the array of values (loaded as the single category, named by the field name).
+     * Values of all the categories are written one after another into the single flat array.
+     */
+    private static Dataset readDataset(JsonParser parser, String fieldName) throws IOException {
+        ValuesBuffer values = new ValuesBuffer();
+
+        if(parser.currentToken() != JsonToken.START_OBJECT){
+            readValues(parser, values);
+            return new Dataset(new String[]{fieldName}, new int[]{0, values.size}, values.toArray(),
+                    values.toWeightsArray());
+        }
+
+        List<String> categories = new ArrayList<>();
+        int[] offsets = new int[INITIAL_CATEGORIES_CAPACITY + 1];
+
+        while(parser.nextToken() == JsonToken.FIELD_NAME){
+            if(categories.size() + 1 == offsets.length){
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+
+            categories.add(parser.currentName());
+            parser.nextToken();
+            readValues(parser, values);
+            offsets[categories.size()] = values.size;
+        }
+
+        return new Dataset(categories.toArray(new String[0]), Arrays.copyOf(offsets, categories.size() + 1),
+                values.toArray(), values.toWeightsArray());
+    }
+
+    /**
+     * Reads the array of values the parser is positioned on into the values buffer.
+     * Single value is read as the array of one value.
+     */
+    private static void readValues(JsonParser parser, ValuesBuffer values) throws IOException {
+        JsonToken token = parser.currentToken();
+
+        if(token != JsonToken.START_ARRAY){
+            readValue(parser, values);
+            return;
+        }
+
+        while(parser.nextToken() != JsonToken.END_ARRAY){
+            readValue(parser, values);
+        }
+    }
+
+    /**
+     * Reads the value the parser is positioned on into the values buffer. The value is either scalar
+     * or the object with "value" scalar and optional "weight" number.
+     */
+    private static void readValue(JsonParser parser, ValuesBuffer values) throws IOException {
+        JsonToken token = parser.currentToken();
+
+        if(token.isScalarValue()){
+            values.add(parser.getText());
+            return;
+        }
+
+        if(token != JsonToken.START_OBJECT){
+            throw new IOException("Expected value, but found " + token + " at " + parser.currentLocation());
+        }
+
+        String value = null;
+        double weight = 1;
+
+        while(parser.nextToken() == JsonToken.FIELD_NAME){
+            String fieldName = parser.currentName();
+            token = parser.nextToken();
+
+            if("value".equals(fieldName) && token.isScalarValue()){
+                value = parser.getText();
+            }
+
+            else if("weight".equals(fieldName) && token.isNumeric()){
+                weight = parser.getDoubleValue();
+            }
+
+            else{
+                throw new IOException("Unexpected field \"" + fieldName + "\" of the weighted value at "
+                        + parser.currentLocation());
+            }
+        }
+
+        if(value == null){
+            throw new IOException("Weighted value has no \"value\" field at " + parser.currentLocation());
+        }
+
+        values.add(value, weight);
+    }
+
+    /**
+     * Escapes the field name to be used as json pointer segment ('~' as '~0' and '/' as '~1').
+     */
+    private static String escapePointerSegment(String fieldName){
+        if(fieldName.indexOf('~') < 0 && fieldName.indexOf('/') < 0){
+            return fieldName;
+        }
+
+        return fieldName.replace("~", "~0").replace("/", "~1");
+    }
+
+    /**
+     * Growable String array, that values are written into while reading the dataset.
+     * The array of weights is created only when the first weight other than 1 is read.
+     */
+    private static final class ValuesBuffer {
+        private String[] values = new String[INITIAL_VALUES_CAPACITY];
+        private double[] weights;
+        private int size;
+
+        void add(String value){
+            add(value, 1);
+        }
+
+        void add(String value, double weight){
+            if(size == values.length){
+                values = Arrays.copyOf(values, size * 2);
+            }
+
+            if(weight != 1 && weights == null){
+                weights = new double[values.length];
+                Arrays.fill(weights, 0, size, 1);
+            }
+
+            if(weights != null){
+                weights = weights.length == values.length ? weights : Arrays.copyOf(weights, values.length);
+                weights[size] = weight;
+            }
+
+            values[size++] = value;
+        }
+
+        String[] toArray(){
+            return size == values.length ? values : Arrays.copyOf(values, size);
+        }
+
+        double[] toWeightsArray(){
+            return weights == null || size == weights.length ? weights : Arrays.copyOf(weights, size);
+        }
+    }
+}
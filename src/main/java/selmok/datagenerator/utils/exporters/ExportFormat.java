@@ -0,0 +1,19 @@
+package selmok.datagenerator.utils.exporters;
+
+/**
+ * Formats of the files, the generated records are exported to by RecordExporter.
+ *
+ * @author Cas
+ */
+public enum ExportFormat {
+    /**
+     * Comma-separated values (RFC 4180): the header row with the column names, then one row per record;
+     * values with commas, quotes or line breaks are enclosed in double quotes.
+     */
+    CSV,
+
+    /**
+     * JSON Lines: one json object per line, where every column is the string attribute of the object.
+     */
+    JSON_LINES
+}
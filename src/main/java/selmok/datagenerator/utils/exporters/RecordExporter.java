@@ -0,0 +1,531 @@
+package selmok.datagenerator.utils.exporters;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * This is the streaming exporter of generated records into CSV or JSON Lines file (refer to ExportFormat),
+ * optionally compressed with gzip. Values are encoded into UTF-8 and escaped straight into the block of bytes,
+ * reused for the whole file, and the block is copied into the direct ByteBuffer and written to the FileChannel
+ * (or deflated into the second direct buffer first) only when it is full, so that no intermediate strings,
+ * byte arrays or encoders are created per record and writing of any number of records is bound by I/O.
+ *
+ * Records can be written row by row (writeRow) or in the columnar form (writeColumns), e.g. the columns of
+ * PersonBatch. The exporter is not thread-safe.
+ *
+ * @author Cas
+ */
+public final class RecordExporter implements Closeable {
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The minimum size of the buffer: it must hold the longest escaped character (\\u0000 in JSON Lines).
+     */
+    private static final int MIN_BUFFER_SIZE = 16;
+
+    /**
+     * The maximum number of bytes, one character of the value is encoded into.
+     */
+    private static final int MAX_CHAR_BYTES = 6;
+
+    private static final int GZIP_MAGIC = 0x8b1f;
+    /**
+     * Tables of ASCII characters, that are written as they are in CSV and JSON Lines.
+     */
+    private static final boolean[] CSV_PLAIN_CHARS = new boolean[0x80];
+    private static final boolean[] JSON_PLAIN_CHARS = new boolean[0x80];
+
+    static {
+        for (char c = 0; c < 0x80; c++) {
+            CSV_PLAIN_CHARS[c] = c != ',' && c != '"' && c != '\n' && c != '\r';
+            JSON_PLAIN_CHARS[c] = c >= 0x20 && c != '"' && c != '\\';
+        }
+    }
+
+    private static final byte[] NO_INPUT = new byte[0];
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final FileChannel channel;
+    private final ExportFormat format;
+    private final int columnCount;
+    private final ByteBuffer buffer;
+
+    /**
+     * The block, records are encoded into, and the number of bytes already encoded. The block is copied into
+     * the direct buffer at once, when it is full, as encoding byte by byte into the direct buffer is much slower.
+     */
+    private final byte[] block;
+    private int position;
+
+    /**
+     * The characters of the value, being encoded: copying them at once is much faster, than reading them one by one.
+     */
+    private char[] chars = new char[64];
+
+    /**
+     * The encoded prefixes of the values of JSON Lines: {"column": for the first column
+     * and ,"column": for the rest.
+     */
+    private final byte[][] jsonKeys;
+
+    private final Deflater deflater;
+    private final CRC32 crc;
+    private final ByteBuffer compressed;
+
+    private long rowCount;
+    private boolean closed;
+
+    /**
+     * Creates (or truncates) the file and opens the exporter into it. For CSV the header row with
+     * the column names is written.
+     *
+     * @param path       the file to write records to
+     * @param format     the format of the file
+     * @param gzip       if true, the file is compressed with gzip
+     * @param bufferSize the size of the buffer of encoded records (and of compressed data, if gzip is used)
+     * @param columns    the names of the columns of records
+     * @throws IllegalArgumentException if there are no columns or the buffer size is less than 16 bytes
+     * @throws IOException if the file cannot be opened
+     */
+    public RecordExporter(Path path, ExportFormat format, boolean gzip, int bufferSize, String... columns)
+            throws IOException {
+        if(columns.length == 0){
+            throw new IllegalArgumentException("Records must have at least one column");
+        }
+
+        if(bufferSize < MIN_BUFFER_SIZE){
+            throw new IllegalArgumentException("Buffer size must be at least " + MIN_BUFFER_SIZE
+                    + " bytes, but was: " + bufferSize);
+        }
+
+        this.format = format;
+        this.columnCount = columns.length;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        this.block = new byte[bufferSize];
+        this.jsonKeys = format == ExportFormat.JSON_LINES ? encodeJsonKeys(columns) : null;
+        this.deflater = gzip ? new Deflater(Deflater.DEFAULT_COMPRESSION, true) : null;
+        this.crc = gzip ? new CRC32() : null;
+        this.compressed = gzip ? ByteBuffer.allocateDirect(bufferSize) : null;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+
+        if(gzip){
+            writeGzipHeader();
+        }
+
+        if(format == ExportFormat.CSV){
+            writeRow(columns);
+            rowCount = 0;
+        }
+    }
+
+    /**
+     * Creates the exporter into uncompressed CSV file with the default buffer size.
+     */
+    public static RecordExporter csv(Path path, String... columns) throws IOException {
+        return new RecordExporter(path, ExportFormat.CSV, false, DEFAULT_BUFFER_SIZE, columns);
+    }
+
+    /**
+     * Creates the exporter into uncompressed JSON Lines file with the default buffer size.
+     */
+    public static RecordExporter jsonLines(Path path, String... columns) throws IOException {
+        return new RecordExporter(path, ExportFormat.JSON_LINES, false, DEFAULT_BUFFER_SIZE, columns);
+    }
+
+    /**
+     * Writes one record. Null values are written as empty values in CSV and as null in JSON Lines.
+     *
+     * @param values the values of the record, one per column
+     * @throws IllegalArgumentException if the number of values does not match the number of columns
+     * @throws IOException if the records cannot be written
+     */
+    public void writeRow(String... values) throws IOException {
+        if(values.length != columnCount){
+            throw new IllegalArgumentException("Record must have " + columnCount + " values, but had: "
+                    + values.length);
+        }
+
+        ensureOpen();
+
+        for (int i = 0; i < values.length; i++) {
+            writeValue(i, values[i]);
+        }
+
+        endRow();
+    }
+
+    /**
+     * Writes records in the columnar form: the record with index i is made of the values on index i
+     * of every column (e.g. the columns of PersonBatch), so that no array is created per record.
+     *
+     * @param columns the columns of records, one per column of the exporter, of the same length
+     * @throws IllegalArgumentException if the number of columns or their lengths do not match
+     * @throws IOException if the records cannot be written
+     */
+    public void writeColumns(String[]... columns) throws IOException {
+        if(columns.length != columnCount){
+            throw new IllegalArgumentException("Records must have " + columnCount + " columns, but had: "
+                    + columns.length);
+        }
+
+        int rows = columns[0].length;
+
+        for (String[] column : columns) {
+            if(column.length != rows){
+                throw new IllegalArgumentException("All the columns must have the same length, but had: "
+                        + rows + " and " + column.length);
+            }
+        }
+
+        ensureOpen();
+
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns.length; column++) {
+                writeValue(column, columns[column][row]);
+            }
+
+            endRow();
+        }
+    }
+
+    /**
+     * Returns the number of records written (the header row of CSV is not counted).
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Writes the records, left in the buffer, finishes the gzip stream, if it is used, and closes the file.
+     */
+    @Override
+    public void close() throws IOException {
+        if(closed){
+            return;
+        }
+
+        closed = true;
+
+        try {
+            flushBuffer();
+
+            if(deflater != null){
+                deflater.finish();
+                deflate(true);
+                writeGzipTrailer();
+            }
+        } finally {
+            if(deflater != null){
+                deflater.end();
+            }
+
+            channel.close();
+        }
+    }
+
+    private void writeValue(int column, String value) throws IOException {
+        if(format == ExportFormat.CSV){
+            if(column > 0){
+                putAscii(',');
+            }
+
+            if(value != null){
+                writeCsvValue(value);
+            }
+
+            return;
+        }
+
+        putBytes(jsonKeys[column]);
+
+        if(value == null){
+            putAscii('n');
+            putAscii('u');
+            putAscii('l');
+            putAscii('l');
+        }
+
+        else{
+            putAscii('"');
+            writeJsonString(value);
+            putAscii('"');
+        }
+    }
+
+    private void endRow() throws IOException {
+        if(format == ExportFormat.JSON_LINES){
+            putAscii('}');
+        }
+
+        putAscii('\n');
+        rowCount++;
+    }
+
+    private void writeCsvValue(String value) throws IOException {
+        int length = value.length();
+
+        if(length <= block.length / MAX_CHAR_BYTES){
+            // the space is ensured before the start is saved, so that the block is not flushed under it
+            ensureRemaining(length);
+            int start = position;
+
+            if(putAsciiRun(value, CSV_PLAIN_CHARS) == length){
+                return;
+            }
+
+            position = start;
+        }
+
+        boolean quoted = false;
+
+        for (int i = 0; i < length && !quoted; i++) {
+            char current = value.charAt(i);
+            quoted = current == ',' || current == '"' || current == '\n' || current == '\r';
+        }
+
+        if(quoted){
+            putAscii('"');
+        }
+
+        for (int i = 0; i < length; i++) {
+            ensureRemaining(MAX_CHAR_BYTES);
+            char current = value.charAt(i);
+
+            if(current < 0x80){
+                block[position++] = (byte) current;
+
+                if(current == '"'){
+                    block[position++] = (byte) current;
+                }
+            }
+
+            else{
+                i = putChar(value, i);
+            }
+        }
+
+        if(quoted){
+            putAscii('"');
+        }
+    }
+
+    /**
+     * Copies the leading characters of the value into the block, while they are ASCII characters,
+     * that need no escaping in the format, with one check of the space remaining for all of them.
+     *
+     * @param plainChars the table of ASCII characters, that need no escaping
+     * @return The index of the first character, that was not copied.
+     */
+    private int putAsciiRun(String value, boolean[] plainChars) throws IOException {
+        int length = value.length();
+        ensureRemaining(length);
+
+        if(chars.length < length){
+            chars = new char[Math.max(length, 2 * chars.length)];
+        }
+
+        value.getChars(0, length, chars, 0);
+        char[] source = chars;
+        byte[] target = block;
+        int offset = position;
+        int i = 0;
+
+        for (; i < length; i++) {
+            char current = source[i];
+
+            if(current >= 0x80 || !plainChars[current]){
+                break;
+            }
+
+            target[offset + i] = (byte) current;
+        }
+
+        position = offset + i;
+        return i;
+    }
+
+    private void writeJsonString(String value) throws IOException {
+        int i = value.length() <= block.length / MAX_CHAR_BYTES ? putAsciiRun(value, JSON_PLAIN_CHARS) : 0;
+
+        for (; i < value.length(); i++) {
+            ensureRemaining(MAX_CHAR_BYTES);
+            char current = value.charAt(i);
+
+            if(current == '"' || current == '\\'){
+                block[position++] = '\\';
+                block[position++] = (byte) current;
+            }
+
+            else if(current < 0x20){
+                putJsonControlChar(current);
+            }
+
+            else if(current < 0x80){
+                block[position++] = (byte) current;
+            }
+
+            else{
+                i = putChar(value, i);
+            }
+        }
+    }
+
+    private void putJsonControlChar(char current){
+        block[position++] = '\\';
+
+        switch (current) {
+            case '\n' -> block[position++] = 'n';
+            case '\r' -> block[position++] = 'r';
+            case '\t' -> block[position++] = 't';
+            case '\b' -> block[position++] = 'b';
+            case '\f' -> block[position++] = 'f';
+            default -> {
+                block[position++] = 'u';
+                block[position++] = '0';
+                block[position++] = '0';
+                block[position++] = HEX_DIGITS[current >>> 4];
+                block[position++] = HEX_DIGITS[current & 0xF];
+            }
+        }
+    }
+
+    /**
+     * Encodes the non-ASCII character of the value on the index into UTF-8. If it is the high surrogate,
+     * followed by the low one, the pair is encoded as one code point; unpaired surrogates are encoded as '?'.
+     * The block must have at least 4 bytes remaining.
+     *
+     * @return The index of the last character encoded.
+     */
+    private int putChar(String value, int index){
+        char current = value.charAt(index);
+
+        if(current < 0x800){
+            block[position++] = (byte) (0xC0 | (current >>> 6));
+            block[position++] = (byte) (0x80 | (current & 0x3F));
+        }
+
+        else if(!Character.isSurrogate(current)){
+            block[position++] = (byte) (0xE0 | (current >>> 12));
+            block[position++] = (byte) (0x80 | ((current >>> 6) & 0x3F));
+            block[position++] = (byte) (0x80 | (current & 0x3F));
+        }
+
+        else if(Character.isHighSurrogate(current) && index + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(index + 1))){
+            int codePoint = Character.toCodePoint(current, value.charAt(index + 1));
+            block[position++] = (byte) (0xF0 | (codePoint >>> 18));
+            block[position++] = (byte) (0x80 | ((codePoint >>> 12) & 0x3F));
+            block[position++] = (byte) (0x80 | ((codePoint >>> 6) & 0x3F));
+            block[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            return index + 1;
+        }
+
+        else{
+            block[position++] = '?';
+        }
+
+        return index;
+    }
+
+    private void putAscii(char value) throws IOException {
+        ensureRemaining(1);
+        block[position++] = (byte) value;
+    }
+
+    private void putBytes(byte[] bytes) throws IOException {
+        int offset = 0;
+
+        while(offset < bytes.length){
+            ensureRemaining(1);
+            int length = Math.min(block.length - position, bytes.length - offset);
+            System.arraycopy(bytes, offset, block, position, length);
+            position += length;
+            offset += length;
+        }
+    }
+
+    private void ensureRemaining(int bytes) throws IOException {
+        if(position > block.length - bytes){
+            flushBuffer();
+        }
+    }
+
+    /**
+     * Copies the block of encoded records into the direct buffer and writes it to the file (deflating it first,
+     * if gzip is used), so that the block is empty again.
+     */
+    private void flushBuffer() throws IOException {
+        buffer.clear();
+        buffer.put(block, 0, position).flip();
+        position = 0;
+
+        if(deflater == null){
+            writeFully(buffer);
+        }
+
+        else{
+            crc.update(block, 0, buffer.limit());
+            deflater.setInput(buffer);
+            deflate(false);
+            // the deflater keeps reading the buffer until the input is replaced, so it must not see it reused
+            deflater.setInput(NO_INPUT);
+        }
+    }
+
+    /**
+     * Deflates all the input, set to the deflater, or, if the stream is being finished, the rest of the stream,
+     * and writes the compressed data to the file.
+     */
+    private void deflate(boolean finish) throws IOException {
+        while(finish ? !deflater.finished() : !deflater.needsInput()){
+            deflater.deflate(compressed);
+            compressed.flip();
+            writeFully(compressed);
+            compressed.clear();
+        }
+    }
+
+    private void writeGzipHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(10).order(ByteOrder.LITTLE_ENDIAN);
+        header.putShort((short) GZIP_MAGIC).put((byte) Deflater.DEFLATED).put(new byte[7]).flip();
+        writeFully(header);
+    }
+
+    private void writeGzipTrailer() throws IOException {
+        ByteBuffer trailer = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+        trailer.putInt((int) crc.getValue()).putInt((int) deflater.getBytesRead()).flip();
+        writeFully(trailer);
+    }
+
+    private void writeFully(ByteBuffer source) throws IOException {
+        while(source.hasRemaining()){
+            channel.write(source);
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if(closed){
+            throw new IOException("Exporter is already closed");
+        }
+    }
+
+    private static byte[][] encodeJsonKeys(String[] columns){
+        byte[][] keys = new byte[columns.length][];
+
+        for (int i = 0; i < columns.length; i++) {
+            String escaped = columns[i].replace("\\", "\\\\").replace("\"", "\\\"");
+            keys[i] = ((i == 0 ? "{\"" : ",\"") + escaped + "\":").getBytes(StandardCharsets.UTF_8);
+        }
+
+        return keys;
+    }
+}
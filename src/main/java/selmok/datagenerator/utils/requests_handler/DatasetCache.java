@@ -0,0 +1,358 @@
+package selmok.datagenerator.utils.requests_handler;
+
+import selmok.datagenerator.customizers.LocaleContext;
+import selmok.datagenerator.enums.Countries;
+import selmok.datagenerator.enums.Languages;
+import selmok.datagenerator.utils.datasets.Dataset;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This is the cache of the datasets, already loaded from the source json files.
+ * Every dataset is stored under the key, that consists of the locale (country and language),
+ * the file context (e.g. "name") and the json pointer to the attribute requested
+ * (e.g. "/generator/first_name"), so that the source file for the locale is read from disk only
+ * when the dataset is requested for the first time.
+ *
+ * The cache is bounded by its weight, that is the total number of values stored in all cached datasets.
+ * When the weight exceeds the maximum one, the least recently used datasets are evicted until
+ * the weight fits. The cache as well collects the statistics of hits, misses and evictions.
+ *
+ * Reads of the cache are lock-free, so that any number of threads can generate values concurrently.
+ * Recency of the datasets is tracked with epochs instead of the access-ordered list: every put starts
+ * the new epoch, and the dataset read is marked as used in the current epoch only if it is not marked yet.
+ * Therefore, datasets used since the last put are all treated as the most recently used, and the read of
+ * already marked dataset writes nothing to shared memory. Puts and evictions are synchronized.
+ * Keys keep direct references to the entries they were put or found in, so the repeated read with the
+ * same key object is served with no hash lookup.
+ *
+ * @author Cas
+ */
+public class DatasetCache {
+
+    /**
+     * Default maximum weight of the cache (total number of values in all cached datasets).
+     */
+    public static final long DEFAULT_MAX_WEIGHT = 1_000_000L;
+
+    private final long maxWeight;
+    private final ConcurrentHashMap<DatasetKey, Entry> datasets = new ConcurrentHashMap<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * The current epoch. It is increased by 2 on every put, so that datasets read since the last put
+     * are marked with odd epoch, which is bigger than epoch of any dataset put before.
+     */
+    private volatile long epoch;
+    private long weight;
+    private long evictionCount;
+
+    /**
+     * Creates the DatasetCache with default maximum weight.
+     */
+    public DatasetCache() {
+        this(DEFAULT_MAX_WEIGHT);
+    }
+
+    /**
+     * Creates the DatasetCache with custom maximum weight (total number of values
+     * in all cached datasets).
+     *
+     * @throws IllegalArgumentException if max weight is not positive
+     */
+    public DatasetCache(long maxWeight) {
+        if(maxWeight <= 0){
+            throw new IllegalArgumentException("Max weight of the dataset cache must be positive, " +
+                    "but was: " + maxWeight);
+        }
+
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * Returns the dataset, stored under the provided key, or null if there is no such dataset cached.
+     * Every call is counted either as hit or as miss.
+     *
+     * @param key the key of the dataset
+     * @return Dataset or null
+     */
+    public Dataset get(DatasetKey key){
+        Entry entry = key.cachedEntry;
+
+        if(entry == null || entry.cache != this || entry.evicted){
+            entry = datasets.get(key);
+
+            if(entry == null){
+                missCount.increment();
+                return null;
+            }
+
+            key.cachedEntry = entry;
+        }
+
+        hitCount.increment();
+        long usedEpoch = epoch + 1;
+
+        if(entry.lastUsed < usedEpoch){
+            entry.lastUsed = usedEpoch;
+        }
+
+        return entry.dataset;
+    }
+
+    /**
+     * Stores the dataset under the provided key. If the weight of the cache exceeds maximum one after that,
+     * the least recently used datasets are evicted. If the dataset alone is heavier than maximum
+     * weight of the cache, it is not cached at all.
+     *
+     * @param key     the key of the dataset
+     * @param dataset the dataset to cache
+     */
+    public synchronized void put(DatasetKey key, Dataset dataset){
+        long datasetWeight = weigh(dataset);
+
+        if(datasetWeight > maxWeight){
+            return;
+        }
+
+        epoch += 2;
+        Entry entry = new Entry(this, dataset, epoch);
+        Entry previous = datasets.put(key, entry);
+        key.cachedEntry = entry;
+
+        if(previous != null){
+            previous.evicted = true;
+            weight -= weigh(previous.dataset);
+        }
+
+        weight += datasetWeight;
+        evictIfRequired();
+    }
+
+    /**
+     * Replaces the dataset, stored under the provided key, with the new one (e.g. reloaded from the source file,
+     * that was changed), if the key is still cached. The new dataset is published at once: readers get either
+     * the previous dataset or the new one, but never wait for the replacement. As with put(), the new dataset,
+     * that alone is heavier than maximum weight of the cache, is not cached: the previous one is removed,
+     * and no other dataset is evicted.
+     *
+     * @param key     the key of the dataset
+     * @param dataset the new dataset
+     * @return true if the dataset was replaced or removed, or false if there is no dataset cached under the key
+     */
+    public synchronized boolean replace(DatasetKey key, Dataset dataset){
+        Entry previous = datasets.get(key);
+
+        if(previous == null){
+            return false;
+        }
+
+        if(weigh(dataset) > maxWeight){
+            datasets.remove(key);
+            previous.evicted = true;
+            weight -= weigh(previous.dataset);
+            return true;
+        }
+
+        Entry entry = new Entry(this, dataset, previous.lastUsed);
+        datasets.put(key, entry);
+        key.cachedEntry = entry;
+        previous.evicted = true;
+        weight += weigh(dataset) - weigh(previous.dataset);
+        evictIfRequired();
+        return true;
+    }
+
+    /**
+     * Replaces the datasets, stored under the provided keys, with the new ones, the same way as replace()
+     * does, under one lock, so that no other put or eviction happens in the middle. Keys, that are not cached,
+     * are skipped.
+     *
+     * @param replacements the new datasets by their keys
+     * @return the number of datasets replaced
+     */
+    public synchronized int replaceAll(Map<DatasetKey, Dataset> replacements){
+        int replaced = 0;
+
+        for (Map.Entry<DatasetKey, Dataset> replacement : replacements.entrySet()) {
+            if(replace(replacement.getKey(), replacement.getValue())){
+                replaced++;
+            }
+        }
+
+        return replaced;
+    }
+
+    /**
+     * Returns the snapshot of the keys of all the datasets cached.
+     */
+    public List<DatasetKey> getKeys(){
+        return List.copyOf(datasets.keySet());
+    }
+
+    /**
+     * Removes all the datasets from the cache. The statistics are not reset.
+     */
+    public synchronized void clear(){
+        datasets.values().forEach(entry -> entry.evicted = true);
+        datasets.clear();
+        weight = 0;
+    }
+
+    /**
+     * Evicts the least recently used datasets until the weight of the cache fits maximum one.
+     */
+    private void evictIfRequired(){
+        while(weight > maxWeight){
+            Map.Entry<DatasetKey, Entry> leastRecentlyUsed = null;
+
+            for (Map.Entry<DatasetKey, Entry> entry : datasets.entrySet()) {
+                if(leastRecentlyUsed == null || entry.getValue().lastUsed < leastRecentlyUsed.getValue().lastUsed){
+                    leastRecentlyUsed = entry;
+                }
+            }
+
+            datasets.remove(leastRecentlyUsed.getKey());
+            leastRecentlyUsed.getValue().evicted = true;
+            weight -= weigh(leastRecentlyUsed.getValue().dataset);
+            evictionCount++;
+        }
+    }
+
+    /**
+     * Returns the weight of the dataset, which is the total number of values it stores.
+     */
+    private static long weigh(Dataset dataset){
+        return dataset.size();
+    }
+
+    public int size() {
+        return datasets.size();
+    }
+
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the ratio of hits to all the requests to the cache, or 0 if there were no requests yet.
+     *
+     * @return double
+     */
+    public double getHitRate() {
+        long hits = hitCount.sum();
+        long requestCount = hits + missCount.sum();
+        return requestCount == 0 ? 0 : (double) hits / requestCount;
+    }
+
+    /**
+     * Returns String representation of the cache statistics.
+     *
+     * @return String
+     */
+    @Override
+    public synchronized String toString() {
+        return "DatasetCache{size=" + datasets.size() + ", weight=" + weight + "/" + maxWeight
+                + ", hits=" + hitCount.sum() + ", misses=" + missCount.sum() + ", evictions=" + evictionCount + "}";
+    }
+
+    /**
+     * This is the cached dataset with the epoch it was last used in. Entry is marked as evicted, when it is
+     * removed from the cache, so that keys, that still reference it, look the dataset up in the cache again.
+     */
+    private static final class Entry {
+        private final DatasetCache cache;
+        private final Dataset dataset;
+        private volatile long lastUsed;
+        private volatile boolean evicted;
+
+        private Entry(DatasetCache cache, Dataset dataset, long lastUsed) {
+            this.cache = cache;
+            this.dataset = dataset;
+            this.lastUsed = lastUsed;
+        }
+    }
+
+    /**
+     * This is the key, under which the dataset is stored in the cache.
+     * It consists of the country and language of the locale, the file context of the request
+     * and the json pointer to the attribute requested.
+     */
+    public static final class DatasetKey {
+        private final Countries country;
+        private final Languages language;
+        private final String fileContext;
+        private final String jsonPointer;
+        private final int hashCode;
+
+        /**
+         * The entry of the cache, this key was last put or found in, so that the dataset is returned
+         * with no hash lookup while the entry is not evicted.
+         */
+        private volatile Entry cachedEntry;
+
+        public DatasetKey(LocaleContext locale, String fileContext, String jsonPointer) {
+            this.country = locale.getCountry();
+            this.language = locale.getLanguage();
+            this.fileContext = fileContext;
+            this.jsonPointer = jsonPointer;
+            this.hashCode = Objects.hash(country, language, fileContext, jsonPointer);
+        }
+
+        /**
+         * Returns the shared (interned) LocaleContext of the country and language of this key.
+         */
+        public LocaleContext getLocale() {
+            return LocaleContext.of(country, language);
+        }
+
+        public String getFileContext() {
+            return fileContext;
+        }
+
+        public String getJsonPointer() {
+            return jsonPointer;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            DatasetKey that = (DatasetKey) o;
+            return country == that.country && language == that.language
+                    && fileContext.equals(that.fileContext) && jsonPointer.equals(that.jsonPointer);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return country.getCountryCode() + "_" + language.getLanguageCode() + ":"
+                    + fileContext + jsonPointer;
+        }
+    }
+}
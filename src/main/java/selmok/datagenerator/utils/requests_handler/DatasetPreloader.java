@@ -0,0 +1,113 @@
+package selmok.datagenerator.utils.requests_handler;
+
+import selmok.datagenerator.customizers.LocaleContext;
+import selmok.datagenerator.customizers.SingletonLocaleContext;
+import selmok.datagenerator.enums.Countries;
+import selmok.datagenerator.enums.Languages;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * This is the utility class, used to load the datasets into the DatasetCache of RequestExecutor in advance
+ * (e.g. on the start of the test suite), so that the first generation call does not pay for reading
+ * of the source files. The datasets of every locale and file context (e.g. "name") are loaded with one read
+ * of the source file by separate task of the executor, so the files are read in parallel.
+ *
+ * The datasets preloaded are all the datasets of the source files, known to the library, and the datasets of
+ * all the requests, already compiled by RequestCompiler (e.g. custom requests of the third-party providers).
+ *
+ * @author Cas
+ */
+public class DatasetPreloader {
+
+    /**
+     * Requests for all the datasets of the source json files of faker_date.
+     */
+    private static final List<String> SOURCE_REQUESTS = List.of("name(/generator/first_name|/generator/last_name)");
+
+    /**
+     * Loads the datasets for the locales provided in parallel with the executor.
+     *
+     * @param locales  the locales to load the datasets for
+     * @param executor the executor to load the datasets with
+     * @return CompletableFuture, completed when all the datasets are cached, or completed exceptionally
+     * with UncheckedIOException if any of the source files cannot be read
+     */
+    public static CompletableFuture<Void> preload(Collection<LocaleContext> locales, Executor executor){
+        List<RequestPlan> plans = getPreloadPlans();
+        List<CompletableFuture<Void>> tasks = new ArrayList<>(locales.size() * plans.size());
+
+        for (LocaleContext locale : locales) {
+            SingletonLocaleContext singletonLocale = SingletonLocaleContext.get(locale);
+
+            for (RequestPlan plan : plans) {
+                tasks.add(CompletableFuture.runAsync(() -> load(singletonLocale, plan), executor));
+            }
+        }
+
+        return CompletableFuture.allOf(tasks.toArray(CompletableFuture<?>[]::new));
+    }
+
+    /**
+     * Returns all the locales, supported by the library (every country with every language).
+     */
+    public static List<LocaleContext> getAllLocales(){
+        List<LocaleContext> locales = new ArrayList<>(LocaleContext.LOCALE_COUNT);
+
+        for (Countries country : Countries.values()) {
+            for (Languages language : Languages.values()) {
+                locales.add(LocaleContext.of(country, language));
+            }
+        }
+
+        return locales;
+    }
+
+    /**
+     * Merges the json pointers of the source requests and the requests, already compiled, into one plan
+     * per file context, so that every source file is read only once.
+     */
+    private static List<RequestPlan> getPreloadPlans(){
+        Map<String, Set<String>> pointersByFileContext = new TreeMap<>();
+
+        for (String request : SOURCE_REQUESTS) {
+            addPointers(pointersByFileContext, RequestCompiler.compile(request));
+        }
+
+        for (RequestPlan plan : RequestCompiler.getCompiledPlans()) {
+            addPointers(pointersByFileContext, plan);
+        }
+
+        List<RequestPlan> plans = new ArrayList<>(pointersByFileContext.size());
+
+        for (Map.Entry<String, Set<String>> entry : pointersByFileContext.entrySet()) {
+            plans.add(RequestCompiler.compile(entry.getKey() + "(" + String.join("|", entry.getValue()) + ")"));
+        }
+
+        return plans;
+    }
+
+    private static void addPointers(Map<String, Set<String>> pointersByFileContext, RequestPlan plan){
+        pointersByFileContext.computeIfAbsent(plan.getFileContext(), key -> new TreeSet<>())
+                .addAll(plan.getJsonPointers());
+    }
+
+    private static void load(SingletonLocaleContext locale, RequestPlan plan){
+        try {
+            RequestExecutor.getDatasetsByRequest(locale, plan);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Datasets of the request " + plan.getRequest() + " cannot be loaded for "
+                    + locale.getLocale(), e);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package selmok.datagenerator.utils.requests_handler;
+
+import selmok.datagenerator.customizers.SingletonLocaleContext;
+import selmok.datagenerator.utils.datasets.BinaryDictionary;
+import selmok.datagenerator.utils.datasets.BinaryDictionaryWriter;
+import selmok.datagenerator.utils.datasets.Dataset;
+import selmok.datagenerator.utils.datasets.DatasetLoader;
+import selmok.datagenerator.utils.dateparser.jsonparser.JSONParser;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * This is the watcher of the source json files (the faker_date tree), that reloads the datasets of the changed
+ * files into the DatasetCache, so that the changes are picked up with no restart (e.g. during long-running
+ * soak tests). The tree is watched with WatchService on the background daemon thread. When the file is changed,
+ * all its datasets are loaded into one in-memory BinaryDictionary, that overrides the sources of the resource
+ * in DatasetLoader at once (refer to DatasetLoader.override), so that the datasets, not cached yet or evicted
+ * from the cache, are loaded from the changed file as well, even if the watched directory is not the one
+ * the datasets are loaded from by default. The datasets of the file, that are cached, are then replaced
+ * with the reloaded ones under one lock of the cache (refer to DatasetCache.replaceAll).
+ *
+ * The generation never waits for the reload and never sees partially loaded dataset: the previous dataset is used
+ * until the new one is completely loaded. If the file cannot be loaded (e.g. it is being written yet), the previous
+ * datasets are kept and the file is loaded again on its next change. When the watcher is closed, the overrides
+ * it published are removed, and the datasets, already reloaded into the cache, stay there until evicted.
+ *
+ * @author Cas
+ */
+public final class DictionaryWatcher implements Closeable {
+
+    /**
+     * The time to wait for more changes after the change, so that the file, written with several events,
+     * is reloaded only once.
+     */
+    private static final long SETTLE_MILLIS = 100;
+
+    private static final Logger ISSUE_LOG = LogManager.getLogger(DictionaryWatcher.class);
+
+    private final Path root;
+    private final DatasetCache cache;
+    private final WatchService watchService;
+    private final Thread thread;
+    private final AtomicLong reloadCount = new AtomicLong();
+
+    /**
+     * Dictionaries, published as overrides of the resources, by the resource name.
+     */
+    private final ConcurrentHashMap<String, BinaryDictionary> overrides = new ConcurrentHashMap<>();
+
+    private DictionaryWatcher(Path root, DatasetCache cache) throws IOException {
+        this.root = root.toAbsolutePath().normalize();
+        this.cache = cache;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.thread = new Thread(this::watch, "selmok-dictionary-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Starts watching the tree of source json files and reloading the datasets of the changed files
+     * into the cache.
+     *
+     * @param root  the root directory of the source json files (e.g. src/main/resources/faker_date)
+     * @param cache the cache to reload the datasets into
+     * @return DictionaryWatcher, that should be closed to stop watching
+     * @throws IOException if the directories cannot be watched
+     */
+    public static DictionaryWatcher start(Path root, DatasetCache cache) throws IOException {
+        DictionaryWatcher watcher = new DictionaryWatcher(root, cache);
+
+        try {
+            watcher.registerAll(watcher.root);
+        } catch (IOException e) {
+            watcher.watchService.close();
+            throw e;
+        }
+
+        watcher.thread.start();
+        return watcher;
+    }
+
+    /**
+     * Returns the number of files, reloaded since the watcher was started.
+     */
+    public long getReloadCount() {
+        return reloadCount.get();
+    }
+
+    /**
+     * Stops watching the files and removes the overrides of the reloaded resources. Datasets, already reloaded,
+     * stay in the cache.
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+        thread.interrupt();
+
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        overrides.forEach(DatasetLoader::removeOverride);
+        overrides.clear();
+    }
+
+    private void watch(){
+        try {
+            while(true){
+                Set<Path> changedFiles = new LinkedHashSet<>();
+                WatchKey key = watchService.take();
+
+                while(key != null){
+                    collectChanges(key, changedFiles);
+                    key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+                }
+
+                for (Path file : changedFiles) {
+                    reload(file);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void collectChanges(WatchKey key, Set<Path> changedFiles){
+        Path directory = (Path) key.watchable();
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if(event.kind() == StandardWatchEventKinds.OVERFLOW){
+                collectAllFiles(changedFiles);
+                continue;
+            }
+
+            Path changed = directory.resolve((Path) event.context());
+
+            if(Files.isDirectory(changed)){
+                try {
+                    registerAll(changed);
+                    collectAllFiles(changedFiles);
+                } catch (IOException e) {
+                    ISSUE_LOG.log(Level.WARN, "Directory " + changed + " cannot be watched: "
+                            + e.getLocalizedMessage());
+                }
+            }
+
+            else if(changed.getFileName().toString().endsWith(".json")){
+                changedFiles.add(changed);
+            }
+        }
+
+        key.reset();
+    }
+
+    /**
+     * Loads all the datasets of the file, publishes them as the override of its resource and replaces
+     * the cached ones with them.
+     */
+    private void reload(Path file){
+        if(!Files.isRegularFile(file)){
+            return;
+        }
+
+        String resourceName = getResourceName(file);
+
+        try {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            BinaryDictionaryWriter.write(JSONParser.readFileToJsonNode(file.toFile()), output, false);
+            BinaryDictionary dictionary = BinaryDictionary.read(ByteBuffer.wrap(output.toByteArray()));
+            Map<DatasetCache.DatasetKey, Dataset> replacements = new HashMap<>();
+
+            for (DatasetCache.DatasetKey key : cache.getKeys()) {
+                if(resourceName.equals(RequestResolver.getResourceNameByFileContext(
+                        SingletonLocaleContext.get(key.getLocale()), key.getFileContext()))){
+                    Dataset dataset = dictionary.getDataset(key.getJsonPointer());
+
+                    if(dataset == null){
+                        throw new IOException("Json pointer " + key.getJsonPointer() + " is not found");
+                    }
+
+                    replacements.put(key, dataset);
+                }
+            }
+
+            DatasetLoader.override(resourceName, dictionary);
+            overrides.put(resourceName, dictionary);
+            cache.replaceAll(replacements);
+            reloadCount.incrementAndGet();
+        } catch (IOException | RuntimeException e) {
+            ISSUE_LOG.log(Level.WARN, "Datasets of " + file + " cannot be reloaded, the previous ones are kept: "
+                    + e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Returns the name of the resource of the file (the path relative to the root with no extension,
+     * e.g. "ukr/name/us_name").
+     */
+    private String getResourceName(Path file){
+        String relativePath = root.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+        return relativePath.substring(0, relativePath.length() - ".json".length());
+    }
+
+    private void collectAllFiles(Set<Path> changedFiles){
+        try (Stream<Path> files = Files.walk(root)) {
+            files.filter(file -> file.getFileName().toString().endsWith(".json")).forEach(changedFiles::add);
+        } catch (IOException e) {
+            ISSUE_LOG.log(Level.WARN, "Directory " + root + " cannot be read: " + e.getLocalizedMessage());
+        }
+    }
+
+    private void registerAll(Path directory) throws IOException {
+        try (Stream<Path> directories = Files.walk(directory)) {
+            for (Path subdirectory : (Iterable<Path>) directories.filter(Files::isDirectory)::iterator) {
+                subdirectory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+            }
+        }
+    }
+}
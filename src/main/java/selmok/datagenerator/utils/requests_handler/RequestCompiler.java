@@ -0,0 +1,45 @@
+package selmok.datagenerator.utils.requests_handler;
+
+import selmok.datagenerator.utils.message_customizers.ExceptionsHandlerUtils;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is the utility class, used to compile the requests for fake data into RequestPlan objects.
+ * Each request string is parsed only once, compiled plans are interned, so that the same request
+ * always returns the same RequestPlan instance.
+ *
+ * @author Cas
+ */
+public class RequestCompiler {
+
+    private static final ConcurrentHashMap<String, RequestPlan> COMPILED_PLANS = new ConcurrentHashMap<>();
+
+    /**
+     * Compiles the request into the RequestPlan or returns the plan, already compiled for this request.
+     *
+     * @param request the request string (e.g. name(/generator/first_name|/generator/last_name))
+     * @return RequestPlan
+     * @throws IllegalArgumentException if the request is null
+     */
+    public static RequestPlan compile(String request){
+        ExceptionsHandlerUtils.checkObjectsForNullAndThrowException(request);
+        RequestPlan plan = COMPILED_PLANS.get(request);
+
+        if(plan == null){
+            plan = COMPILED_PLANS.computeIfAbsent(request, key -> new RequestPlan(key,
+                    RequestResolver.getFileContextFromRequest(key),
+                    RequestResolver.getAllJsonPathsFromRequest(key)));
+        }
+
+        return plan;
+    }
+
+    /**
+     * Returns the snapshot of all the plans, compiled so far.
+     */
+    public static List<RequestPlan> getCompiledPlans(){
+        return List.copyOf(COMPILED_PLANS.values());
+    }
+}
@@ -1,14 +1,19 @@
 package selmok.datagenerator.utils.requests_handler;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import selmok.datagenerator.customizers.SingletonLocaleContext;
+import selmok.datagenerator.dataproviders.Name;
 import selmok.datagenerator.services.RandomService;
-import selmok.datagenerator.utils.dateparser.jsonparser.JSONParser;
+import selmok.datagenerator.utils.datasets.AliasTable;
+import selmok.datagenerator.utils.datasets.Dataset;
+import selmok.datagenerator.utils.datasets.DatasetIndex;
+import selmok.datagenerator.utils.datasets.DatasetLoader;
+import selmok.datagenerator.utils.datasets.ValueConstraint;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * This is the utility class, used to execute the requests for the specific fake data
@@ -19,54 +24,154 @@ import java.util.List;
  */
 public class RequestExecutor {
 
+    /**
+     * The cache of datasets, already loaded from the source json files. It is shared by all
+     * the requests, so that source file for the locale is read only on the first request to it.
+     */
+    private static final DatasetCache DATASET_CACHE = new DatasetCache();
+
+    /**
+     * Returns the cache of datasets, used by the executor (e.g. to check its statistics or clear it).
+     *
+     * @return DatasetCache
+     */
+    public static DatasetCache getDatasetCache() {
+        return DATASET_CACHE;
+    }
+
     /**
      * Executes the request and returns the list of objects, returned as response.
      * The objects returned are represented as HashMap&lt;String, List&lt;String&gt;&gt;, where
      * String is the key, that represent attribute requested and the List&lt;String&gt; is the
      * value, that represents value of the attribute.
-     * The request is resolved with help of RequestResolver utility.
+     * The request is compiled with help of RequestCompiler utility.
      */
     public static List<HashMap<String, List<String>>> getListOfValuesByRequest(SingletonLocaleContext locale,
                                                                                String request) throws IOException {
-        return JSONParser.readObjectListsByFewJsonPaths(RequestResolver
-                        .getFileFromRequest(locale, request),
-                RequestResolver.getAllJsonPathsFromRequest(request),
-                new TypeReference<HashMap<String, List<String>>>() {});
+        return getListOfValuesByRequest(locale, RequestCompiler.compile(request));
+    }
+
+    /**
+     * Executes already compiled request and returns the list of objects, returned as response
+     * (one HashMap&lt;String, List&lt;String&gt;&gt; per json pointer of the plan).
+     * The values are taken from the datasets, returned by getDatasetsByRequest.
+     */
+    public static List<HashMap<String, List<String>>> getListOfValuesByRequest(SingletonLocaleContext locale,
+                                                                               RequestPlan plan) throws IOException {
+        Dataset[] datasets = getDatasetsByRequest(locale, plan);
+        List<HashMap<String, List<String>>> values = new ArrayList<>(datasets.length);
+
+        for (Dataset dataset : datasets) {
+            values.add(dataset.toHashMap());
+        }
+
+        return values;
+    }
+
+    /**
+     * Executes already compiled request and returns the datasets requested (one Dataset per json pointer
+     * of the plan). Datasets are taken from the DatasetCache; the source json file is read only if any of
+     * the datasets requested is not cached yet. In this case the missing datasets are loaded by DatasetLoader
+     * (from the binary dictionary or the source json file) and all of them are cached.
+     */
+    public static Dataset[] getDatasetsByRequest(SingletonLocaleContext locale, RequestPlan plan)
+            throws IOException {
+        RequestPlan.ResolvedDataset resolved = plan.resolve(locale);
+        Dataset[] datasets = new Dataset[resolved.size()];
+        List<Integer> missingIndexes = null;
+
+        for (int i = 0; i < datasets.length; i++) {
+            datasets[i] = DATASET_CACHE.get(resolved.getKey(i));
+
+            if(datasets[i] == null){
+                missingIndexes = missingIndexes == null ? new ArrayList<>() : missingIndexes;
+                missingIndexes.add(i);
+            }
+        }
+
+        if(missingIndexes != null){
+            loadMissingDatasets(resolved, datasets, missingIndexes);
+        }
+
+        return datasets;
+    }
+
+    /**
+     * Executes already compiled request and returns the dataset for the json pointer on the specified index
+     * of the plan. It is taken from the DatasetCache and loaded by DatasetLoader only if it is not cached yet.
+     */
+    public static Dataset getDatasetByRequest(SingletonLocaleContext locale, RequestPlan plan, int pointerIndex)
+            throws IOException {
+        RequestPlan.ResolvedDataset resolved = plan.resolve(locale);
+        Dataset dataset = DATASET_CACHE.get(resolved.getKey(pointerIndex));
+
+        if(dataset == null){
+            Dataset[] datasets = new Dataset[resolved.size()];
+            loadMissingDatasets(resolved, datasets, List.of(pointerIndex));
+            dataset = datasets[pointerIndex];
+        }
+
+        return dataset;
+    }
+
+    /**
+     * Loads the datasets on the missing indexes with DatasetLoader, puts them into the array of datasets
+     * and caches them.
+     */
+    private static void loadMissingDatasets(RequestPlan.ResolvedDataset resolved, Dataset[] datasets,
+                                            List<Integer> missingIndexes) throws IOException {
+        List<String> missingPaths = new ArrayList<>(missingIndexes.size());
+
+        for (int index : missingIndexes) {
+            missingPaths.add(resolved.getKey(index).getJsonPointer());
+        }
+
+        List<Dataset> loaded = DatasetLoader.load(resolved.getResourceName(), resolved.getFile(),
+                missingPaths);
+
+        for (int i = 0; i < loaded.size(); i++) {
+            datasets[missingIndexes.get(i)] = loaded.get(i);
+            DATASET_CACHE.put(resolved.getKey(missingIndexes.get(i)), loaded.get(i));
+        }
     }
 
     /**
      * Returns fake String, generated as the result of request.
-     * The String is formed from the values, randomly selected for each object from the
-     * list of result objects, returned as the response to request.
-     * It iterates through list and for each HashMap selects random key, invokes
-     * the list, stored under this key and then selects the random value from this list.
+     * The String is formed from the values, randomly selected from each dataset, returned as the response
+     * to request. Every value of the dataset has the same probability to be selected, no matter how
+     * many values its category has.
      * All those values are stored in StringBuilder, separated by " ". This allows
      * to format full addresses (e.g. Poland, 31-436 Krakow, ul.Pradnica 10), full names, etc.
-     * If there only one value requested, the separator is not used. The string contains only the
-     * value requested and no additional spaces.
+     * The separator is used only between the values, so the string contains only the values requested
+     * and no additional spaces.
      *
      * @return String
      */
     public static String getFakeValueByRequest(SingletonLocaleContext localeContext, String request,
                                                RandomService rand)
             throws IOException {
-        List<HashMap<String, List<String>>> res =  getListOfValuesByRequest(localeContext, request);
-        StringBuilder resultValue = new StringBuilder();
-        String valsSeparator = res.size() > 1 ? " " : "";
-
-        for (HashMap<String, List<String>> fakeValsMap : res) {
-            resultValue.append(getFakeValueFromHashMap(fakeValsMap, rand) + valsSeparator);
-        }
-
-        return resultValue.toString();
+        return getFakeValueByRequest(localeContext, RequestCompiler.compile(request), rand, false);
+    }
 
+    /**
+     * Returns fake String, generated as the result of already compiled request.
+     * Refer to getFakeValueByRequest(SingletonLocaleContext, String, RandomService) for details.
+     *
+     * @return String
+     */
+    public static String getFakeValueByRequest(SingletonLocaleContext localeContext, RequestPlan plan,
+                                               RandomService rand)
+            throws IOException {
+        return getFakeValueByRequest(localeContext, plan, rand, false);
     }
 
     /**
      * Retrieves a fake value based on the provided request using the specified locale context and random service.
-     * Apart from that, it uses the getKeysOnSameIndexOrLast to control from which index the keys
-     * are selected for each HashMap. If set index is bigger then the length of key set for any
-     * of the HashMap, its last key is selected.
+     * Apart from that, it uses the getKeysOnSameIndexOrLast to control from which category the values
+     * are selected for each dataset: the value of the first dataset is selected from all its values, and the
+     * values of other datasets are selected from the category on the same index as the category of
+     * the first value. If this index is bigger then the number of categories of any dataset, its last
+     * category is used.
      * This is the special approach and should be used carefully only in specific cases (e.g. generating
      * full name, considering last and first name would match by gender)
      *
@@ -80,20 +185,301 @@ public class RequestExecutor {
     public static String getFakeValueByRequest(SingletonLocaleContext localeContext, String request,
                                                RandomService rand, boolean getKeysOnSameIndexOrLast)
             throws IOException {
-        List<HashMap<String, List<String>>> res =  getListOfValuesByRequest(localeContext, request);
-        StringBuilder resultValue = new StringBuilder();
-        String valsSeparator = res.size() > 1 ? " " : "";
-        int randomIndex = getKeysOnSameIndexOrLast ? rand.nextInt(res.get(0)
-                .keySet().size()) : -1;
+        return getFakeValueByRequest(localeContext, RequestCompiler.compile(request), rand,
+                getKeysOnSameIndexOrLast);
+    }
+
+    /**
+     * Retrieves a fake value based on already compiled request using the specified locale context
+     * and random service. Refer to getFakeValueByRequest(SingletonLocaleContext, String, RandomService, boolean)
+     * for details.
+     *
+     * @param localeContext        The locale context to use for the request.
+     * @param plan                 The compiled request specifying the type of fake value to retrieve.
+     * @param rand                 The random service to use for generating random values.
+     * @param getKeysOnSameIndexOrLast If true, gets keys on the same index; otherwise, gets the last index.
+     * @return The generated fake value based on the request.
+     * @throws IOException If an I/O error occurs while processing the request.
+     */
+    public static String getFakeValueByRequest(SingletonLocaleContext localeContext, RequestPlan plan,
+                                               RandomService rand, boolean getKeysOnSameIndexOrLast)
+            throws IOException {
+        return generateFakeValue(localeContext, plan, rand, getKeysOnSameIndexOrLast, false);
+    }
+
+    /**
+     * Retrieves a fake value based on already compiled request, selecting the values with probability,
+     * proportional to their weights, defined in the source file (values with no weights are selected
+     * uniformly). Apart from that, works the same way as
+     * getFakeValueByRequest(SingletonLocaleContext, RequestPlan, RandomService, boolean).
+     *
+     * @param localeContext        The locale context to use for the request.
+     * @param plan                 The compiled request specifying the type of fake value to retrieve.
+     * @param rand                 The random service to use for generating random values.
+     * @param getKeysOnSameIndexOrLast If true, gets keys on the same index; otherwise, gets the last index.
+     * @return The generated fake value based on the request.
+     * @throws IOException If an I/O error occurs while processing the request.
+     */
+    public static String getWeightedFakeValueByRequest(SingletonLocaleContext localeContext, RequestPlan plan,
+                                                       RandomService rand, boolean getKeysOnSameIndexOrLast)
+            throws IOException {
+        return generateFakeValue(localeContext, plan, rand, getKeysOnSameIndexOrLast, true);
+    }
+
+    /**
+     * Fills the range of the target array with fake values, generated as the result of already compiled request.
+     * The datasets are resolved only once for the whole range, so that generating many values costs only
+     * the random selection of every value. The values are the same as generated by calling
+     * getFakeValueByRequest(SingletonLocaleContext, RequestPlan, RandomService, boolean) for every element
+     * of the range with the same random service.
+     *
+     * @param localeContext        The locale context to use for the request.
+     * @param plan                 The compiled request specifying the type of fake value to retrieve.
+     * @param rand                 The random service to use for generating random values.
+     * @param getKeysOnSameIndexOrLast If true, gets keys on the same index; otherwise, gets the last index.
+     * @param target               The array to fill with the fake values.
+     * @param from                 The index of the first element to fill (inclusive).
+     * @param to                   The index of the last element to fill (exclusive).
+     * @throws IOException If an I/O error occurs while processing the request.
+     */
+    public static void fillFakeValuesByRequest(SingletonLocaleContext localeContext, RequestPlan plan,
+                                               RandomService rand, boolean getKeysOnSameIndexOrLast,
+                                               String[] target, int from, int to) throws IOException {
+        fillFakeValues(localeContext, plan, rand, getKeysOnSameIndexOrLast, false, target, from, to);
+    }
+
+    /**
+     * Fills the range of the target array with fake values, selected with probability, proportional to
+     * their weights. Refer to fillFakeValuesByRequest and getWeightedFakeValueByRequest for details.
+     *
+     * @param localeContext        The locale context to use for the request.
+     * @param plan                 The compiled request specifying the type of fake value to retrieve.
+     * @param rand                 The random service to use for generating random values.
+     * @param getKeysOnSameIndexOrLast If true, gets keys on the same index; otherwise, gets the last index.
+     * @param target               The array to fill with the fake values.
+     * @param from                 The index of the first element to fill (inclusive).
+     * @param to                   The index of the last element to fill (exclusive).
+     * @throws IOException If an I/O error occurs while processing the request.
+     */
+    public static void fillWeightedFakeValuesByRequest(SingletonLocaleContext localeContext, RequestPlan plan,
+                                                       RandomService rand, boolean getKeysOnSameIndexOrLast,
+                                                       String[] target, int from, int to) throws IOException {
+        fillFakeValues(localeContext, plan, rand, getKeysOnSameIndexOrLast, true, target, from, to);
+    }
+
+    /**
+     * Returns the name of the person, generated as the result of already compiled request with two json pointers:
+     * the first names and the last names. The last name is selected from the category on the same index as
+     * the category of the first name (or the last category), so that they match each other by gender.
+     * The random values are drawn in the same order as by getFakeValueByRequest with getKeysOnSameIndexOrLast,
+     * so that the same random service gives the same name as the full name string.
+     *
+     * @param localeContext The locale context to use for the request.
+     * @param plan          The compiled request with the json pointers of first and last names.
+     * @param rand          The random service to use for generating random values.
+     * @param weighted      If true, the names are selected with probability, proportional to their weights.
+     * @return The generated name.
+     * @throws IOException If an I/O error occurs while processing the request.
+     * @throws IllegalArgumentException If the request has not exactly two json pointers.
+     */
+    public static Name getNameByRequest(SingletonLocaleContext localeContext, RequestPlan plan, RandomService rand,
+                                        boolean weighted) throws IOException {
+        Dataset[] datasets = getNameDatasets(localeContext, plan);
+        return generateName(datasets[0], datasets[1], rand, weighted);
+    }
+
+    /**
+     * Fills the range of the target array with names of persons, generated as the result of already compiled
+     * request. The datasets are resolved only once for the whole range. Refer to getNameByRequest for details.
+     *
+     * @param localeContext The locale context to use for the request.
+     * @param plan          The compiled request with the json pointers of first and last names.
+     * @param rand          The random service to use for generating random values.
+     * @param weighted      If true, the names are selected with probability, proportional to their weights.
+     * @param target        The array to fill with the names.
+     * @param from          The index of the first element to fill (inclusive).
+     * @param to            The index of the last element to fill (exclusive).
+     * @throws IOException If an I/O error occurs while processing the request.
+     * @throws IllegalArgumentException If the request has not exactly two json pointers.
+     */
+    public static void fillNamesByRequest(SingletonLocaleContext localeContext, RequestPlan plan, RandomService rand,
+                                          boolean weighted, Name[] target, int from, int to) throws IOException {
+        Objects.checkFromToIndex(from, to, target.length);
+        Dataset[] datasets = getNameDatasets(localeContext, plan);
+
+        for (int i = from; i < to; i++) {
+            target[i] = generateName(datasets[0], datasets[1], rand, weighted);
+        }
+    }
+
+    /**
+     * Returns fake value of already compiled request with one json pointer, that matches the constraint
+     * (e.g. the first name of at most 10 characters, starting with "K"). The value is selected uniformly from
+     * all the values, that match the constraint, with the index of the dataset (refer to DatasetIndex), so that
+     * the selection takes O(1) time with no retries, no matter how rare the values, that match, are.
+     *
+     * @param localeContext The locale context to use for the request.
+     * @param plan          The compiled request with one json pointer.
+     * @param rand          The random service to use for generating random values.
+     * @param constraint    The constraint of the value.
+     * @return The generated fake value, that matches the constraint.
+     * @throws IOException If an I/O error occurs while processing the request.
+     * @throws IllegalArgumentException If the request has not exactly one json pointer or no value
+     * matches the constraint.
+     */
+    public static String getConstrainedFakeValueByRequest(SingletonLocaleContext localeContext, RequestPlan plan,
+                                                          RandomService rand, ValueConstraint constraint)
+            throws IOException {
+        if(plan.getJsonPointers().size() != 1){
+            throw new IllegalArgumentException("Constrained request must have one json pointer, but was: "
+                    + plan.getRequest());
+        }
+
+        Dataset dataset = getDatasetByRequest(localeContext, plan, 0);
+        int flatIndex = dataset.getIndex().select(constraint, rand);
+
+        if(flatIndex < 0){
+            throw new IllegalArgumentException("No value of the request " + plan.getRequest() + " for "
+                    + localeContext.getLocale() + " matches " + constraint);
+        }
+
+        return dataset.getValue(flatIndex);
+    }
+
+    /**
+     * Returns the name of the person, generated as the result of already compiled request with the json pointers
+     * of first and last names, where first and last name match their constraints and each other by gender.
+     * The first name is selected uniformly from the first names, that match the constraint and have at least one
+     * last name of the same category, that matches its constraint, and then the last name is selected uniformly
+     * from such last names. Both selections take O(1) time with no retries (refer to DatasetIndex).
+     *
+     * @param localeContext       The locale context to use for the request.
+     * @param plan                The compiled request with the json pointers of first and last names.
+     * @param rand                The random service to use for generating random values.
+     * @param firstNameConstraint The constraint of the first name.
+     * @param lastNameConstraint  The constraint of the last name.
+     * @return The generated name.
+     * @throws IOException If an I/O error occurs while processing the request.
+     * @throws IllegalArgumentException If the request has not exactly two json pointers or no name
+     * matches the constraints.
+     */
+    public static Name getConstrainedNameByRequest(SingletonLocaleContext localeContext, RequestPlan plan,
+                                                   RandomService rand, ValueConstraint firstNameConstraint,
+                                                   ValueConstraint lastNameConstraint) throws IOException {
+        Dataset[] datasets = getNameDatasets(localeContext, plan);
+        DatasetIndex firstNames = datasets[0].getIndex();
+        DatasetIndex lastNames = datasets[1].getIndex();
+        int categoryCount = datasets[0].categoryCount();
+        int[] counts = new int[categoryCount];
+        int total = 0;
+
+        for (int category = 0; category < categoryCount; category++) {
+            int lastNameCategory = Math.min(category, datasets[1].categoryCount() - 1);
+
+            if(lastNames.count(lastNameCategory, lastNameConstraint) > 0){
+                counts[category] = firstNames.count(category, firstNameConstraint);
+                total += counts[category];
+            }
+        }
+
+        if(total == 0){
+            throw new IllegalArgumentException("No name of the request " + plan.getRequest() + " for "
+                    + localeContext.getLocale() + " matches " + firstNameConstraint + " and " + lastNameConstraint);
+        }
+
+        int index = rand.nextInt(total);
+        int category = 0;
+
+        while(index >= counts[category]){
+            index -= counts[category++];
+        }
+
+        int lastNameCategory = Math.min(category, datasets[1].categoryCount() - 1);
+
+        return new Name(datasets[0].getValue(firstNames.get(category, firstNameConstraint, index)),
+                datasets[1].getValue(lastNames.select(lastNameCategory, lastNameConstraint, rand)), category);
+    }
+
+    private static Dataset[] getNameDatasets(SingletonLocaleContext localeContext, RequestPlan plan)
+            throws IOException {
+        if(plan.getJsonPointers().size() != 2){
+            throw new IllegalArgumentException("Request of the name must have json pointers of first and last "
+                    + "names, but was: " + plan.getRequest());
+        }
+
+        return getDatasetsByRequest(localeContext, plan);
+    }
+
+    private static Name generateName(Dataset firstNames, Dataset lastNames, RandomService rand, boolean weighted){
+        int firstNameIndex = selectFlatIndex(firstNames, rand, weighted);
+        int category = firstNames.categoryOf(firstNameIndex);
+
+        return new Name(firstNames.getValue(firstNameIndex),
+                lastNames.getValue(selectFlatIndex(lastNames, rand, category, weighted)), category);
+    }
+
+    private static String generateFakeValue(SingletonLocaleContext localeContext, RequestPlan plan,
+                                            RandomService rand, boolean getKeysOnSameIndexOrLast,
+                                            boolean weighted) throws IOException {
+        if(plan.getJsonPointers().size() == 1){
+            Dataset dataset = getDatasetByRequest(localeContext, plan, 0);
+            return dataset.getValue(selectFlatIndex(dataset, rand, weighted));
+        }
+
+        return generateFakeValue(getDatasetsByRequest(localeContext, plan), plan.getValuesSeparator(), rand,
+                getKeysOnSameIndexOrLast, weighted, new StringBuilder());
+    }
+
+    private static void fillFakeValues(SingletonLocaleContext localeContext, RequestPlan plan,
+                                       RandomService rand, boolean getKeysOnSameIndexOrLast, boolean weighted,
+                                       String[] target, int from, int to) throws IOException {
+        Objects.checkFromToIndex(from, to, target.length);
+
+        if(plan.getJsonPointers().size() == 1){
+            Dataset dataset = getDatasetByRequest(localeContext, plan, 0);
+
+            for (int i = from; i < to; i++) {
+                target[i] = dataset.getValue(selectFlatIndex(dataset, rand, weighted));
+            }
+
+            return;
+        }
 
-        for (HashMap<String, List<String>> fakeValsMap : res) {
+        Dataset[] datasets = getDatasetsByRequest(localeContext, plan);
+        String valsSeparator = plan.getValuesSeparator();
+        StringBuilder builder = new StringBuilder();
 
-            if(randomIndex >= 0){
-                resultValue.append(getFakeValueFromHashMap(fakeValsMap, rand, randomIndex) + valsSeparator);
+        for (int i = from; i < to; i++) {
+            target[i] = generateFakeValue(datasets, valsSeparator, rand, getKeysOnSameIndexOrLast, weighted,
+                    builder);
+        }
+    }
+
+    /**
+     * Generates fake value from the datasets, already resolved for the request. The builder is cleared
+     * and reused, so that it is allocated only once when many values are generated.
+     */
+    private static String generateFakeValue(Dataset[] datasets, String valsSeparator, RandomService rand,
+                                            boolean getKeysOnSameIndexOrLast, boolean weighted,
+                                            StringBuilder resultValue){
+        resultValue.setLength(0);
+        int category = -1;
+
+        for (int i = 0; i < datasets.length; i++) {
+            Dataset dataset = datasets[i];
+
+            if(i > 0){
+                resultValue.append(valsSeparator);
+            }
+
+            if(category >= 0){
+                resultValue.append(dataset.getValue(selectFlatIndex(dataset, rand, category, weighted)));
             }
 
             else{
-                resultValue.append(getFakeValueFromHashMap(fakeValsMap, rand) + valsSeparator);
+                int flatIndex = selectFlatIndex(dataset, rand, weighted);
+                resultValue.append(dataset.getValue(flatIndex));
+                category = getKeysOnSameIndexOrLast ? dataset.categoryOf(flatIndex) : -1;
             }
         }
 
@@ -101,6 +487,67 @@ public class RequestExecutor {
 
     }
 
+    /**
+     * Selects random flat index of the value from all the values of the dataset: with probability,
+     * proportional to the weight of the value, if weighted selection is requested and the dataset
+     * has weights, or uniformly otherwise.
+     */
+    private static int selectFlatIndex(Dataset dataset, RandomService rand, boolean weighted){
+        AliasTable aliasTable = weighted ? dataset.getAliasTable() : null;
+        return aliasTable == null ? rand.nextInt(dataset.size()) : aliasTable.next(rand);
+    }
+
+    /**
+     * Selects random flat index of the value from the category on special index or the last category,
+     * if the special index is bigger then number of categories. The value is selected with probability,
+     * proportional to its weight, if weighted selection is requested and the dataset has weights,
+     * or uniformly otherwise.
+     */
+    private static int selectFlatIndex(Dataset dataset, RandomService rand, int specialIndexOrLast,
+                                       boolean weighted){
+        int category = Math.min(specialIndexOrLast, dataset.categoryCount() - 1);
+        AliasTable aliasTable = weighted ? dataset.getCategoryAliasTable(category) : null;
+
+        return dataset.categoryStart(category) + (aliasTable == null
+                ? rand.nextInt(dataset.categorySize(category)) : aliasTable.next(rand));
+    }
+
+    /**
+     * Retrieves a fake value from the specified Dataset using the given random service and the category
+     * on special index or the last category, if the special index is bigger then number of categories.
+     * Should be used in specific cases (e.g. full name generation to get first and last name, that
+     * would match each other by gender)
+     *
+     * @param dataset           The Dataset containing the fake values.
+     * @param rand              The random service to use for generating random values.
+     * @param specialIndexOrLast The index of the category to retrieve the fake value from.
+     * @return The generated fake value from the Dataset.
+     */
+    public static String getFakeValueFromDataset(Dataset dataset, RandomService rand, int specialIndexOrLast){
+        return dataset.getValue(selectFlatIndex(dataset, rand, specialIndexOrLast, false));
+    }
+
+    /**
+     * Selects random value from all the values of provided Dataset, so that every value has
+     * the same probability to be selected no matter which category it belongs to.
+     *
+     * @return String
+     */
+    public static String getFakeValueFromDataset(Dataset dataset, RandomService rand){
+        return dataset.getValue(selectFlatIndex(dataset, rand, false));
+    }
+
+    /**
+     * Selects random value from all the values of provided Dataset with probability, proportional
+     * to its weight. If the dataset has no weights, every value has the same probability to be selected.
+     * The selection takes O(1) time with the alias table of the dataset.
+     *
+     * @return String
+     */
+    public static String getWeightedFakeValueFromDataset(Dataset dataset, RandomService rand){
+        return dataset.getValue(selectFlatIndex(dataset, rand, true));
+    }
+
     /**
      * Retrieves a fake value from the specified HashMap using the given random service and special index or the last index
      * to retrieve the key from the keys set and further work and select from corr. values, stored
@@ -116,14 +563,16 @@ public class RequestExecutor {
     public static String getFakeValueFromHashMap(HashMap<String, List<String>> initHashMap,
                                                  RandomService rand, int specialIndexOrLast){
 
-        List<String> arrayOfMapKeys = new ArrayList<>(initHashMap.keySet());
+        int keyIndex = Math.min(specialIndexOrLast, initHashMap.size() - 1);
+        List<String> fakeValuesStream = null;
 
-        if(arrayOfMapKeys.size() <= specialIndexOrLast){
-            specialIndexOrLast = arrayOfMapKeys.size() - 1;
-        }
+        for (List<String> values : initHashMap.values()) {
+            fakeValuesStream = values;
 
-        List<String> fakeValuesStream = initHashMap
-                .get(arrayOfMapKeys.get(specialIndexOrLast));
+            if(keyIndex-- <= 0){
+                break;
+            }
+        }
 
         return fakeValuesStream.get(rand.nextInt(fakeValuesStream.size()));
 
@@ -131,20 +580,32 @@ public class RequestExecutor {
     }
 
     /**
-     * Selects random key from provided HashMap, then invokes the list,
-     * stored under this key and eventually selects the random value from this list.
+     * Selects random value from all the values, stored under all the keys of provided HashMap,
+     * so that every value has the same probability to be selected.
      *
      * @return String
      */
     public static String getFakeValueFromHashMap(HashMap<String, List<String>> initHashMap,
                                                  RandomService rand){
 
-        List<String> arrayOfMapKeys = new ArrayList<>(initHashMap.keySet());
+        int totalSize = 0;
 
-        List<String> fakeValuesStream = initHashMap
-                .get(arrayOfMapKeys.get(rand.nextInt(arrayOfMapKeys.size())));
+        for (List<String> values : initHashMap.values()) {
+            totalSize += values.size();
+        }
 
-        return fakeValuesStream.get(rand.nextInt(fakeValuesStream.size()));
+        int valueIndex = rand.nextInt(totalSize);
+
+        for (List<String> values : initHashMap.values()) {
+
+            if(valueIndex < values.size()){
+                return values.get(valueIndex);
+            }
+
+            valueIndex -= values.size();
+        }
+
+        throw new IllegalStateException("HashMap was modified while the fake value was selected");
 
 
     }
@@ -0,0 +1,126 @@
+package selmok.datagenerator.utils.requests_handler;
+
+import selmok.datagenerator.customizers.LocaleContext;
+import selmok.datagenerator.customizers.SingletonLocaleContext;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * This is the compiled request for fake data. It is created once per request string by
+ * RequestCompiler and holds everything, that was previously parsed from the request on every call:
+ * the file context (directory and name part of the source json file), the list of json pointers
+ * to the attributes requested and the separator, used to join the values generated.
+ * The plan is immutable and can be shared by any number of providers.
+ *
+ * @author Cas
+ */
+public final class RequestPlan {
+    private final String request;
+    private final String fileContext;
+    private final List<String> jsonPointers;
+    private final String valuesSeparator;
+
+    /**
+     * Datasets, resolved for the locales this plan was already executed with, indexed by the locale ordinal.
+     */
+    private final AtomicReferenceArray<ResolvedDataset> resolvedDatasets =
+            new AtomicReferenceArray<>(LocaleContext.LOCALE_COUNT);
+
+    RequestPlan(String request, String fileContext, List<String> jsonPointers) {
+        this.request = request;
+        this.fileContext = fileContext;
+        this.jsonPointers = List.copyOf(jsonPointers);
+        this.valuesSeparator = this.jsonPointers.size() > 1 ? " " : "";
+    }
+
+    /**
+     * Returns the dataset handle of this plan for the provided locale: the resource name, the source json file
+     * and the keys of the datasets requested in DatasetCache. It is resolved only once per locale and then
+     * looked up by the locale ordinal.
+     *
+     * @return ResolvedDataset
+     */
+    public ResolvedDataset resolve(SingletonLocaleContext locale){
+        ResolvedDataset dataset = resolvedDatasets.get(locale.ordinal());
+
+        if(dataset == null){
+            ResolvedDataset resolved = new ResolvedDataset(locale, this);
+            dataset = resolvedDatasets.compareAndSet(locale.ordinal(), null, resolved)
+                    ? resolved : resolvedDatasets.get(locale.ordinal());
+        }
+
+        return dataset;
+    }
+
+    /**
+     * Returns the original request string, this plan was compiled from.
+     */
+    public String getRequest() {
+        return request;
+    }
+
+    public String getFileContext() {
+        return fileContext;
+    }
+
+    /**
+     * Returns unmodifiable list of json pointers to the attributes requested.
+     */
+    public List<String> getJsonPointers() {
+        return jsonPointers;
+    }
+
+    /**
+     * Returns the separator, used to join the values generated for each json pointer.
+     * If there is only one json pointer in the request, separator is an empty string.
+     */
+    public String getValuesSeparator() {
+        return valuesSeparator;
+    }
+
+    @Override
+    public String toString() {
+        return request;
+    }
+
+    /**
+     * This is the dataset handle of the plan, resolved for the specific locale. It holds the resource name,
+     * the source json file and the keys of the datasets requested (one key per json pointer of the plan).
+     * The keys keep direct references to the datasets, once they are cached, so that DatasetCache
+     * returns them with no hash lookup.
+     */
+    public static final class ResolvedDataset {
+        private final String resourceName;
+        private final File file;
+        private final DatasetCache.DatasetKey[] keys;
+
+        private ResolvedDataset(SingletonLocaleContext locale, RequestPlan plan) {
+            this.resourceName = RequestResolver.getResourceNameByFileContext(locale, plan.fileContext);
+            this.file = RequestResolver.getFileFromRequest(locale, plan);
+            this.keys = new DatasetCache.DatasetKey[plan.jsonPointers.size()];
+
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = new DatasetCache.DatasetKey(locale.getLocale(), plan.fileContext,
+                        plan.jsonPointers.get(i));
+            }
+        }
+
+        public String getResourceName() {
+            return resourceName;
+        }
+
+        public File getFile() {
+            return file;
+        }
+
+        public int size() {
+            return keys.length;
+        }
+
+        public DatasetCache.DatasetKey getKey(int index) {
+            return keys[index];
+        }
+    }
+}
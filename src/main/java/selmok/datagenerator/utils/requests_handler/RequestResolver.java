@@ -3,12 +3,16 @@ package selmok.datagenerator.utils.requests_handler;
 import selmok.datagenerator.customizers.SingletonLocaleContext;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 
 /**
  * This is the class, that used to resolve requests for fake data and then use them to
  * access this data and correspondingly return it.
+ * The source json files are resolved relative to the project directory (ROOT_DIR), while
+ * DatasetLoader as well looks for the binary dictionaries and json files on the classpath
+ * by the resource name.
  * The requests are created by the fake data providers and therefore only them are responsible for the
  * correct request format.
  *
@@ -73,8 +77,18 @@ public class RequestResolver {
      * @return String
      */
     public static String getFilePathFromRequest(SingletonLocaleContext localeContext, String request){
-        String fileContext = getFileContextFromRequest(request);
+        return getFilePathByFileContext(localeContext, getFileContextFromRequest(request));
+    }
 
+    /**
+     * Uses SingletonLocaleContext to get information about country and language for
+     * which fake data must be generated and combines it with the file context
+     * (directory where source json file with requested fake values is located)
+     * in the full filepath. Returns it as String.
+     *
+     * @return String
+     */
+    public static String getFilePathByFileContext(SingletonLocaleContext localeContext, String fileContext){
         return ROOT_DIR + localeContext.getLocale().getLanguageCode() + "//"
                 + fileContext + "//"
                 + localeContext.getLocale().getCountryCode() + "_"
@@ -82,6 +96,22 @@ public class RequestResolver {
 
     }
 
+    /**
+     * Uses SingletonLocaleContext to get information about country and language for
+     * which fake data must be generated and combines it with the file context in the
+     * name of the resource with fake values (e.g. "ukr/name/us_name"). The resource name is the path
+     * relative to the resources root with no extension, so it is the same for the source json file and
+     * the binary dictionary compiled from it.
+     *
+     * @return String
+     */
+    public static String getResourceNameByFileContext(SingletonLocaleContext localeContext, String fileContext){
+        return localeContext.getLocale().getLanguageCode() + "/"
+                + fileContext + "/"
+                + localeContext.getLocale().getCountryCode() + "_"
+                + fileContext;
+    }
+
     /**
      * Uses SingletonLocaleContext to get information about country and language for
      * which fake data must be generated to get the path to the source json file.
@@ -94,4 +124,23 @@ public class RequestResolver {
     public static File getFileFromRequest(SingletonLocaleContext localeContext, String request){
         return new File(getFilePathFromRequest(localeContext, request));
     }
+
+    /**
+     * Creates File object from the full filepath to the source json file, combined from
+     * the locale and the file context of already compiled request.
+     *
+     * @return File
+     */
+    public static File getFileFromRequest(SingletonLocaleContext localeContext, RequestPlan plan){
+        return new File(getFilePathByFileContext(localeContext, plan.getFileContext()));
+    }
+
+    /**
+     * Returns the root directory of the source json files on disk (relative to the project directory).
+     *
+     * @return Path
+     */
+    public static Path getRootDirectory(){
+        return Path.of(ROOT_DIR);
+    }
 }
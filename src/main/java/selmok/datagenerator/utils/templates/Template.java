@@ -0,0 +1,164 @@
+package selmok.datagenerator.utils.templates;
+
+import selmok.datagenerator.customizers.SingletonLocaleContext;
+import selmok.datagenerator.dataproviders.Name;
+import selmok.datagenerator.services.RandomService;
+import selmok.datagenerator.utils.requests_handler.RequestCompiler;
+import selmok.datagenerator.utils.requests_handler.RequestExecutor;
+import selmok.datagenerator.utils.requests_handler.RequestPlan;
+
+import java.io.IOException;
+
+/**
+ * This is the compiled template of fake values (e.g. "{first_name}.{last_name}{nn}@corp.test"). It is created
+ * once per template string by TemplateCompiler and holds the sequence of segments: literal text and
+ * placeholders, replaced with generated values on every render. Supported placeholders are:
+ * <ul>
+ *     <li>{first_name}, {last_name} - first and last name of the same person, so that they match each other
+ *     by gender, no matter in which order they are placed in the template;</li>
+ *     <li>{full_name} - first and last name of the same person, separated by " ";</li>
+ *     <li>{n...} - random digits, one per letter n (e.g. {nnn} for 3 digits);</li>
+ *     <li>{a...} - random lower case letters, one per letter a (e.g. {aaaa} for 4 letters);</li>
+ *     <li>{A...} - random upper case letters, one per letter A.</li>
+ * </ul>
+ * Braces outside of placeholders are written twice ("{{" and "}}").
+ *
+ * The value is rendered directly into the buffer, presized for the template, with no intermediate strings,
+ * so that only the result is allocated. The template is immutable and can be shared by any number of threads.
+ *
+ * @author Cas
+ */
+public final class Template {
+    static final int LITERAL = 0;
+    static final int FIRST_NAME = 1;
+    static final int LAST_NAME = 2;
+    static final int FULL_NAME = 3;
+    static final int DIGITS = 4;
+    static final int LOWER_LETTERS = 5;
+    static final int UPPER_LETTERS = 6;
+
+    /**
+     * The expected length of the name, used to presize the buffer for the templates with names.
+     */
+    private static final int NAME_LENGTH_ESTIMATE = 12;
+
+    private static final RequestPlan NAMES_REQUEST =
+            RequestCompiler.compile("name(/generator/first_name|/generator/last_name)");
+
+    /**
+     * Buffers, the values are rendered into, one per thread, so that they are allocated only once.
+     */
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(StringBuilder::new);
+
+    private final String template;
+    private final int[] kinds;
+    private final String[] literals;
+    private final int[] lengths;
+    private final boolean hasNames;
+    private final int estimatedLength;
+
+    /**
+     * Creates the template from the compiled segments: the kind of every segment, its text (for literals)
+     * and its length (for random characters).
+     */
+    Template(String template, int[] kinds, String[] literals, int[] lengths) {
+        this.template = template;
+        this.kinds = kinds;
+        this.literals = literals;
+        this.lengths = lengths;
+
+        boolean names = false;
+        int length = 0;
+
+        for (int i = 0; i < kinds.length; i++) {
+            switch (kinds[i]) {
+                case LITERAL -> length += literals[i].length();
+                case FIRST_NAME, LAST_NAME -> length += NAME_LENGTH_ESTIMATE;
+                case FULL_NAME -> length += 2 * NAME_LENGTH_ESTIMATE + 1;
+                default -> length += lengths[i];
+            }
+
+            names |= kinds[i] == FIRST_NAME || kinds[i] == LAST_NAME || kinds[i] == FULL_NAME;
+        }
+
+        this.hasNames = names;
+        this.estimatedLength = length;
+    }
+
+    /**
+     * Renders the value of the template for the locale with the random service provided.
+     *
+     * @param locale the country and language context of the names
+     * @param random the random service to generate values with
+     * @return The value rendered.
+     * @throws IOException If the template has names and their source json file cannot be read.
+     */
+    public String render(SingletonLocaleContext locale, RandomService random) throws IOException {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        return render(buffer, locale, random).toString();
+    }
+
+    /**
+     * Renders the value of the template for the locale with the random service provided and appends it
+     * to the target.
+     *
+     * @param target the builder to append the value to
+     * @param locale the country and language context of the names
+     * @param random the random service to generate values with
+     * @return The target builder.
+     * @throws IOException If the template has names and their source json file cannot be read.
+     */
+    public StringBuilder render(StringBuilder target, SingletonLocaleContext locale, RandomService random)
+            throws IOException {
+        target.ensureCapacity(target.length() + estimatedLength);
+        Name name = hasNames ? RequestExecutor.getNameByRequest(locale, NAMES_REQUEST, random, false) : null;
+
+        for (int i = 0; i < kinds.length; i++) {
+            switch (kinds[i]) {
+                case LITERAL -> target.append(literals[i]);
+                case FIRST_NAME -> target.append(name.getFirstName());
+                case LAST_NAME -> target.append(name.getLastName());
+                case FULL_NAME -> name.appendTo(target, " ");
+                case DIGITS -> appendRandomChars(target, '0', 10, lengths[i], random);
+                case LOWER_LETTERS -> appendRandomChars(target, 'a', 26, lengths[i], random);
+                default -> appendRandomChars(target, 'A', 26, lengths[i], random);
+            }
+        }
+
+        return target;
+    }
+
+    private static void appendRandomChars(StringBuilder target, char first, int count, int length,
+                                          RandomService random){
+        for (int i = 0; i < length; i++) {
+            target.append((char) (first + random.nextInt(count)));
+        }
+    }
+
+    /**
+     * Returns the original template string, this template was compiled from.
+     */
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * Returns the number of segments (literals and placeholders) of the template.
+     */
+    public int segmentCount() {
+        return kinds.length;
+    }
+
+    /**
+     * Returns the length of the buffer, the value of this template is expected to fit.
+     */
+    public int getEstimatedLength() {
+        return estimatedLength;
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+}
@@ -0,0 +1,149 @@
+package selmok.datagenerator.utils.templates;
+
+import selmok.datagenerator.utils.message_customizers.ExceptionsHandlerUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is the utility class, used to compile the templates of fake values into Template objects.
+ * Each template string is parsed only once, compiled templates are interned, so that the same template string
+ * always returns the same Template instance. The number of interned templates is limited by MAX_INTERNED_TEMPLATES,
+ * so that templates built at runtime (e.g. with the values concatenated into them) do not grow the table
+ * without bound: once it is full, new templates are compiled on every call and are not interned.
+ * Refer to Template class for the syntax of templates.
+ *
+ * @author Cas
+ */
+public class TemplateCompiler {
+
+    /**
+     * The maximal number of templates interned by compile(String).
+     */
+    public static final int MAX_INTERNED_TEMPLATES = 1024;
+
+    private static final ConcurrentHashMap<String, Template> COMPILED_TEMPLATES = new ConcurrentHashMap<>();
+
+    /**
+     * Compiles the template string into the Template or returns the Template, already compiled for it.
+     * If MAX_INTERNED_TEMPLATES templates are already interned, the new template is compiled and returned
+     * with no interning, so the caller, rendering it many times, should keep the returned Template.
+     *
+     * @param template the template string (e.g. "{first_name}.{last_name}{nn}@corp.test")
+     * @return Template
+     * @throws IllegalArgumentException if the template is null, has unknown or unclosed placeholders
+     * or single braces outside of placeholders
+     */
+    public static Template compile(String template){
+        ExceptionsHandlerUtils.checkObjectsForNullAndThrowException(template);
+        Template compiled = COMPILED_TEMPLATES.get(template);
+
+        if(compiled == null){
+            compiled = COMPILED_TEMPLATES.size() < MAX_INTERNED_TEMPLATES
+                    ? COMPILED_TEMPLATES.computeIfAbsent(template, TemplateCompiler::parse) : parse(template);
+        }
+
+        return compiled;
+    }
+
+    private static Template parse(String template){
+        List<Integer> kinds = new ArrayList<>();
+        List<String> literals = new ArrayList<>();
+        List<Integer> lengths = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int position = 0;
+
+        while(position < template.length()){
+            char current = template.charAt(position);
+            boolean doubled = position + 1 < template.length() && template.charAt(position + 1) == current;
+
+            if((current == '{' || current == '}') && doubled){
+                literal.append(current);
+                position += 2;
+            }
+
+            else if(current == '{'){
+                int end = template.indexOf('}', position);
+
+                if(end < 0){
+                    throw new IllegalArgumentException("Unclosed placeholder at index " + position
+                            + " of the template: " + template);
+                }
+
+                if(!literal.isEmpty()){
+                    addSegment(kinds, literals, lengths, Template.LITERAL, literal.toString(), 0);
+                    literal.setLength(0);
+                }
+
+                String placeholder = template.substring(position + 1, end);
+                addSegment(kinds, literals, lengths, getPlaceholderKind(placeholder, template), null,
+                        placeholder.length());
+                position = end + 1;
+            }
+
+            else if(current == '}'){
+                throw new IllegalArgumentException("Single '}' at index " + position
+                        + " of the template, write it as '}}': " + template);
+            }
+
+            else{
+                literal.append(current);
+                position++;
+            }
+        }
+
+        if(!literal.isEmpty()){
+            addSegment(kinds, literals, lengths, Template.LITERAL, literal.toString(), 0);
+        }
+
+        return new Template(template, kinds.stream().mapToInt(Integer::intValue).toArray(),
+                literals.toArray(new String[0]), lengths.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private static void addSegment(List<Integer> kinds, List<String> literals, List<Integer> lengths, int kind,
+                                   String literal, int length){
+        kinds.add(kind);
+        literals.add(literal);
+        lengths.add(length);
+    }
+
+    private static int getPlaceholderKind(String placeholder, String template){
+        switch (placeholder) {
+            case "first_name":
+                return Template.FIRST_NAME;
+            case "last_name":
+                return Template.LAST_NAME;
+            case "full_name":
+                return Template.FULL_NAME;
+        }
+
+        if(isRepeated(placeholder, 'n')){
+            return Template.DIGITS;
+        }
+
+        if(isRepeated(placeholder, 'a')){
+            return Template.LOWER_LETTERS;
+        }
+
+        if(isRepeated(placeholder, 'A')){
+            return Template.UPPER_LETTERS;
+        }
+
+        throw new IllegalArgumentException("Unknown placeholder {" + placeholder + "} in the template: " + template);
+    }
+
+    private static boolean isRepeated(String placeholder, char letter){
+        if(placeholder.isEmpty()){
+            return false;
+        }
+
+        for (int i = 0; i < placeholder.length(); i++) {
+            if(placeholder.charAt(i) != letter){
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
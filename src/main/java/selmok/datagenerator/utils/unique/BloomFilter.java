@@ -0,0 +1,109 @@
+package selmok.datagenerator.utils.unique;
+
+import selmok.datagenerator.services.CounterRandomGenerator;
+
+/**
+ * This is the Bloom filter of strings: the compact probabilistic set, that tells if the string was
+ * definitely not added yet or was probably added, using fixed memory for the expected number of strings.
+ * It is used to guard uniqueness of the values from the free-form sources, that cannot be walked
+ * as the permutation (refer to UniqueSequence.distinct).
+ *
+ * The filter is not thread-safe.
+ *
+ * @author Cas
+ */
+public final class BloomFilter {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * Creates the filter, sized for the expected number of strings and the rate of false positives
+     * (strings, that were not added, but are reported as probably added).
+     *
+     * @param expectedInsertions the expected number of strings added
+     * @param falsePositiveRate  the rate of false positives, from 0 to 1 (exclusive)
+     * @throws IllegalArgumentException if the number of strings is not positive or the rate is out of range
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if(expectedInsertions <= 0){
+            throw new IllegalArgumentException("Expected number of insertions must be positive, but was: "
+                    + expectedInsertions);
+        }
+
+        if(!(falsePositiveRate > 0 && falsePositiveRate < 1)){
+            throw new IllegalArgumentException("False positive rate must be from 0 to 1 (exclusive), but was: "
+                    + falsePositiveRate);
+        }
+
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate)
+                / (Math.log(2) * Math.log(2)));
+        this.bits = new long[(int) Math.min(Integer.MAX_VALUE - 8, (optimalBits + 63) / 64)];
+        this.bitCount = bits.length * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * Adds the string to the filter.
+     *
+     * @return true if the string was definitely not added before, or false if it was probably added
+     */
+    public boolean add(String value){
+        long hash = hash(value);
+        long secondHash = CounterRandomGenerator.mix64(hash + GOLDEN_GAMMA) | 1;
+        boolean added = false;
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash + i * secondHash, bitCount);
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+
+            if((bits[word] & mask) == 0){
+                bits[word] |= mask;
+                added = true;
+            }
+        }
+
+        return added;
+    }
+
+    /**
+     * Checks if the string was probably added to the filter.
+     *
+     * @return false if the string was definitely not added, or true if it was probably added
+     */
+    public boolean mightContain(String value){
+        long hash = hash(value);
+        long secondHash = CounterRandomGenerator.mix64(hash + GOLDEN_GAMMA) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash + i * secondHash, bitCount);
+
+            if((bits[(int) (bit >>> 6)] & (1L << bit)) == 0){
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static long hash(String value){
+        long hash = value.length();
+
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+        }
+
+        return CounterRandomGenerator.mix64(hash);
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+}
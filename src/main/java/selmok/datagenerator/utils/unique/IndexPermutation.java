@@ -0,0 +1,90 @@
+package selmok.datagenerator.utils.unique;
+
+import selmok.datagenerator.services.CounterRandomGenerator;
+
+/**
+ * This is the pseudo-random permutation of indexes from 0 to size (exclusive), defined by the seed.
+ * It maps every index to the distinct index of the same range, so that walking indexes 0, 1, 2, ... through
+ * the permutation visits every index of the range exactly once in random order, with no need to store
+ * the indexes already visited.
+ *
+ * The permutation is the balanced Feistel network with 4 rounds over the smallest range of even power of 2,
+ * that holds the size; indexes, mapped outside the size, are mapped again (cycle walking) until they fit.
+ * As the range is less than 4 times bigger than the size, the index is mapped in O(1) expected time.
+ *
+ * @author Cas
+ */
+public final class IndexPermutation {
+
+    /**
+     * Maximum size of the permutation.
+     */
+    public static final long MAX_SIZE = 1L << 62;
+
+    private static final int ROUNDS = 4;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long size;
+    private final int halfBits;
+    private final long halfMask;
+    private final long[] roundKeys = new long[ROUNDS];
+
+    /**
+     * Creates the permutation of indexes from 0 to size (exclusive), defined by the seed.
+     *
+     * @param size the number of indexes
+     * @param seed the seed, that defines the order of indexes
+     * @throws IllegalArgumentException if the size is not positive or is bigger than MAX_SIZE
+     */
+    public IndexPermutation(long size, long seed) {
+        if(size <= 0 || size > MAX_SIZE){
+            throw new IllegalArgumentException("Size of the permutation must be from 1 to " + MAX_SIZE
+                    + ", but was: " + size);
+        }
+
+        int bits = Math.max(2, 64 - Long.numberOfLeadingZeros(size - 1));
+        this.size = size;
+        this.halfBits = (bits + 1) / 2;
+        this.halfMask = (1L << halfBits) - 1;
+
+        for (int i = 0; i < ROUNDS; i++) {
+            roundKeys[i] = CounterRandomGenerator.mix64(seed + (i + 1) * GOLDEN_GAMMA);
+        }
+    }
+
+    /**
+     * Returns the index, the specified index is mapped to.
+     *
+     * @param index the index from 0 to size (exclusive)
+     * @return the index mapped, from 0 to size (exclusive)
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long get(long index){
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+
+        do {
+            index = encrypt(index);
+        } while (index >= size);
+
+        return index;
+    }
+
+    private long encrypt(long value){
+        long left = value >>> halfBits;
+        long right = value & halfMask;
+
+        for (long roundKey : roundKeys) {
+            long next = left ^ (CounterRandomGenerator.mix64(right ^ roundKey) & halfMask);
+            left = right;
+            right = next;
+        }
+
+        return (left << halfBits) | right;
+    }
+
+    public long size() {
+        return size;
+    }
+}
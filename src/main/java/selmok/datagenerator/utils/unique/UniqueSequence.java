@@ -0,0 +1,125 @@
+package selmok.datagenerator.utils.unique;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * This is the sequence of unique values, that walks all the combinations of the source (e.g. every email
+ * of 8 lowercase letters and 4 letter domain) in random order, defined by the seed. The combinations are
+ * numbered from 0 to the size (exclusive) and the decoder turns the number into the value, while
+ * IndexPermutation shuffles the numbers, so the values are guaranteed to be unique until the sequence is
+ * exhausted, using O(1) memory no matter how many values are generated.
+ *
+ * The sequence can be shared by any number of threads: every value is returned only once.
+ *
+ * @author Cas
+ */
+public final class UniqueSequence implements Iterator<String> {
+
+    /**
+     * Maximum number of values in a row, rejected by the Bloom filter in distinct(), before the source
+     * is considered to be exhausted.
+     */
+    public static final int MAX_REJECTED_IN_ROW = 1000;
+
+    private final IndexPermutation permutation;
+    private final LongFunction<String> decoder;
+    private final AtomicLong position = new AtomicLong();
+
+    /**
+     * Creates the sequence of values for the combinations from 0 to size (exclusive). If the size is bigger than
+     * IndexPermutation.MAX_SIZE, only the combinations from 0 to IndexPermutation.MAX_SIZE are walked.
+     *
+     * @param size    the number of combinations of the source
+     * @param seed    the seed, that defines the order of values
+     * @param decoder the function, that returns the value for the number of combination; it must return
+     *                distinct values for distinct numbers
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    public UniqueSequence(long size, long seed, LongFunction<String> decoder) {
+        this.permutation = new IndexPermutation(Math.min(size, IndexPermutation.MAX_SIZE), seed);
+        this.decoder = decoder;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return position.get() < permutation.size();
+    }
+
+    /**
+     * Returns the next unique value.
+     *
+     * @throws NoSuchElementException if all the combinations were already returned
+     */
+    @Override
+    public String next() {
+        long index = position.getAndIncrement();
+
+        if(index >= permutation.size()){
+            position.set(permutation.size());
+            throw new NoSuchElementException("All " + permutation.size() + " unique values were already generated");
+        }
+
+        return decoder.apply(permutation.get(index));
+    }
+
+    /**
+     * Fills the provided array with the next unique values.
+     *
+     * @return The target array.
+     * @throws NoSuchElementException if there are not enough combinations left
+     */
+    public String[] next(String[] target) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] = next();
+        }
+
+        return target;
+    }
+
+    /**
+     * Returns the number of unique values, that are not generated yet.
+     */
+    public long remaining() {
+        return Math.max(0, permutation.size() - position.get());
+    }
+
+    /**
+     * Returns the total number of unique values of the sequence.
+     */
+    public long size() {
+        return permutation.size();
+    }
+
+    /**
+     * Returns the supplier of values from the free-form source (e.g. full name emails), that skips the values,
+     * already returned, using the Bloom filter. As the filter may report the value, that was not returned, as
+     * returned one, some distinct values are skipped as well, but no value is ever returned twice.
+     * The supplier is not thread-safe.
+     *
+     * @param source             the source of values
+     * @param expectedValues     the expected number of values returned
+     * @param falsePositiveRate  the rate of distinct values skipped, from 0 to 1 (exclusive)
+     * @return Supplier of distinct values, that throws NoSuchElementException if MAX_REJECTED_IN_ROW values
+     * of the source in a row were rejected
+     */
+    public static Supplier<String> distinct(Supplier<String> source, long expectedValues, double falsePositiveRate){
+        BloomFilter filter = new BloomFilter(expectedValues, falsePositiveRate);
+
+        return () -> {
+            for (int i = 0; i < MAX_REJECTED_IN_ROW; i++) {
+                String value = source.get();
+
+                if(filter.add(value)){
+                    return value;
+                }
+            }
+
+            throw new NoSuchElementException("Source returned " + MAX_REJECTED_IN_ROW
+                    + " values in a row, that were already returned");
+        };
+    }
+}
@@ -1,17 +1,65 @@
 package generator_unit_tests;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 import selmok.datagenerator.Generator;
+import selmok.datagenerator.ParallelGenerator;
+import selmok.datagenerator.ProviderRegistry;
+import selmok.datagenerator.SeekableGenerator;
 import selmok.datagenerator.customizers.LocaleContext;
+import selmok.datagenerator.customizers.SingletonLocaleContext;
+import selmok.datagenerator.dataproviders.BaseProvider;
+import selmok.datagenerator.dataproviders.Name;
+import selmok.datagenerator.dataproviders.NameProvider;
+import selmok.datagenerator.dataproviders.PersonBatch;
+import selmok.datagenerator.dataproviders.ProviderFactory;
 import selmok.datagenerator.enums.Countries;
 import selmok.datagenerator.enums.Languages;
+import selmok.datagenerator.services.Alphabet;
+import selmok.datagenerator.services.BufferedSecureRandom;
+import selmok.datagenerator.services.RandomService;
 import selmok.datagenerator.utils.dateparser.jsonparser.JSONParser;
+import selmok.datagenerator.utils.dateparser.jsonparser.JSONStreamingLoader;
+import selmok.datagenerator.utils.datasets.BinaryDictionary;
+import selmok.datagenerator.utils.datasets.BinaryDictionaryWriter;
+import selmok.datagenerator.utils.datasets.Dataset;
+import selmok.datagenerator.utils.datasets.ValueConstraint;
+import selmok.datagenerator.utils.exporters.ExportFormat;
+import selmok.datagenerator.utils.exporters.RecordExporter;
+import selmok.datagenerator.utils.requests_handler.DatasetCache;
+import selmok.datagenerator.utils.requests_handler.DatasetPreloader;
+import selmok.datagenerator.utils.requests_handler.DictionaryWatcher;
+import selmok.datagenerator.utils.requests_handler.RequestCompiler;
+import selmok.datagenerator.utils.requests_handler.RequestExecutor;
+import selmok.datagenerator.utils.requests_handler.RequestPlan;
+import selmok.datagenerator.utils.templates.Template;
+import selmok.datagenerator.utils.templates.TemplateCompiler;
+import selmok.datagenerator.utils.unique.IndexPermutation;
+import selmok.datagenerator.utils.unique.UniqueSequence;
 
 import java.io.File;
+import java.io.InputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.SecureRandom;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 public class GeneratorUnitTest {
     private static final Generator GENERATOR =
@@ -133,7 +181,609 @@ public class GeneratorUnitTest {
                 GENERATOR.email().getEmail("@fakeDomain.com")));
     }
 
+    @Test
+    public void validateDatasetCache_RepeatedRequestIsHit(){
+        DatasetCache cache = RequestExecutor.getDatasetCache();
+        GENERATOR.name().lastName();
+        long hitsBefore = cache.getHitCount();
+        long missesBefore = cache.getMissCount();
+
+        GENERATOR.name().lastName();
+
+        Assert.assertEquals(cache.getHitCount(), hitsBefore + 1);
+        Assert.assertEquals(cache.getMissCount(), missesBefore);
+    }
+
+    @Test
+    public void validateDatasetCache_LeastRecentlyUsedEvicted(){
+        DatasetCache cache = new DatasetCache(3);
+        LocaleContext locale = new LocaleContext();
+        DatasetCache.DatasetKey firstKey = new DatasetCache.DatasetKey(locale, "name", "/first");
+        DatasetCache.DatasetKey secondKey = new DatasetCache.DatasetKey(locale, "name", "/second");
+        Dataset dataset = new Dataset(new String[]{"values"}, new String[][]{{"a", "b"}});
+
+        cache.put(firstKey, dataset);
+        cache.put(secondKey, dataset);
+
+        Assert.assertNull(cache.get(firstKey));
+        Assert.assertEquals(cache.get(secondKey), dataset);
+        Assert.assertEquals(cache.getWeight(), 2L);
+        Assert.assertEquals(cache.getEvictionCount(), 1L);
+    }
+
+    @Test
+    public void validateRequestCompile_PlanIsInterned(){
+        RequestPlan plan = RequestCompiler.compile("name(/generator/first_name|/generator/last_name)");
+
+        Assert.assertSame(RequestCompiler.compile("name(/generator/first_name|/generator/last_name)"), plan);
+        Assert.assertEquals(plan.getFileContext(), "name");
+        Assert.assertEquals(plan.getJsonPointers(), List.of("/generator/first_name", "/generator/last_name"));
+        Assert.assertEquals(plan.getValuesSeparator(), " ");
+    }
+
+    @Test
+    public void validateJsonNodeBinding_NoIntermediateString() throws IOException {
+        JsonNode fileContent = JSONParser.readFileToJsonNode(new File(JSON_DATA_FILE));
+        TypeReference<HashMap<String, List<String>>> type = new TypeReference<>() {};
+        HashMap<String, List<String>> firstNames = JSONParser
+                .getSpecificObjFromJsonNodeByPath(fileContent, "/generator/first_name", type);
+
+        Assert.assertEquals(firstNames.get("male_first_name").size(),
+                fileContent.at("/generator/first_name/male_first_name").size());
+        Assert.assertSame(JSONParser.getObjectReader(new TypeReference<HashMap<String, List<String>>>() {}),
+                JSONParser.getObjectReader(type));
+    }
+
+    @Test
+    public void validateStreamingLoad_MatchesJsonTree() throws IOException {
+        JsonNode fileContent = JSONParser.readFileToJsonNode(new File(JSON_DATA_FILE));
+        List<Dataset> datasets = JSONStreamingLoader.readDatasetsByFewJsonPaths(new File(JSON_DATA_FILE),
+                List.of("/generator/last_name", "/generator/first_name"));
+        Dataset firstNames = datasets.get(1);
+
+        Assert.assertEquals(datasets.get(0).getCategory(0), "common_last_name");
+        Assert.assertEquals(firstNames.getCategory(0), "female_first_name");
+        Assert.assertEquals(firstNames.categorySize(1),
+                fileContent.at("/generator/first_name/male_first_name").size());
+        Assert.assertEquals(firstNames.getValue(1, 0),
+                fileContent.at("/generator/first_name/male_first_name/0").asText());
+    }
+
+    @Test
+    public void validateBinaryDictionary_MatchesJsonSource() throws IOException {
+        Path dictionaryFile = Files.createTempFile("us_name", BinaryDictionary.FILE_EXTENSION);
+        dictionaryFile.toFile().deleteOnExit();
+
+        try (OutputStream outputStream = Files.newOutputStream(dictionaryFile)) {
+            BinaryDictionaryWriter.write(JSONParser.readFileToJsonNode(new File(JSON_DATA_FILE)), outputStream, true);
+        }
+
+        Dataset expected = JSONStreamingLoader.readDatasetsByFewJsonPaths(new File(JSON_DATA_FILE),
+                List.of("/generator/first_name")).get(0);
+        Dataset actual = BinaryDictionary.open(dictionaryFile).getDataset("/generator/first_name");
+
+        Assert.assertEquals(actual.categoryCount(), expected.categoryCount());
+        Assert.assertEquals(actual.getCategory(1), expected.getCategory(1));
+        Assert.assertEquals(actual.toHashMap(), expected.toHashMap());
+        Assert.assertEquals(actual.getValue(3), expected.getValue(3));
+    }
+
+    @Test
+    public void validateDatasetCategoryOf_SkipsEmptyCategories(){
+        Dataset dataset = new Dataset(new String[]{"first", "empty", "last"},
+                new String[][]{{"a", "b"}, {}, {"c"}});
+
+        Assert.assertEquals(dataset.categoryOf(1), 0);
+        Assert.assertEquals(dataset.categoryOf(2), 2);
+        Assert.assertEquals(dataset.getValue(2), "c");
+    }
+
+    @Test
+    public void validateFullNameGenerate_GenderMatches() throws IOException {
+        Generator generator = new Generator(new LocaleContext(Countries.UKRAINE, Languages.UKRAINIAN));
+        JsonNode fileContent = JSONParser.readFileToJsonNode(
+                new File("src/main/resources/faker_date/ukr/name/ua_name.json"));
+
+        for (int i = 0; i < 20; i++) {
+            String[] nameParts = generator.name().fullName().split(" ");
+            boolean femaleFirstName = fileContent.at("/generator/first_name/female_first_name")
+                    .toString().contains("\"" + nameParts[0] + "\"");
+
+            Assert.assertTrue(fileContent.at(femaleFirstName ? "/generator/last_name/female_last_name"
+                    : "/generator/last_name/male_last_name").toString().contains("\"" + nameParts[1] + "\""));
+        }
+    }
+
+    @Test
+    public void validateWeightedSampling_FollowsWeights() throws IOException {
+        Dataset lastNames = JSONStreamingLoader.readDatasetsByFewJsonPaths(new File(JSON_DATA_FILE),
+                List.of("/generator/last_name")).get(0);
+        Dataset dataset = new Dataset(new String[]{"values"}, new int[]{0, 3},
+                new String[]{"never", "rare", "often"}, new double[]{0, 1, 3});
+        RandomService rand = new RandomService(new Random(42));
+        int[] counts = new int[3];
+
+        for (int i = 0; i < 40000; i++) {
+            counts[dataset.getAliasTable().next(rand)]++;
+        }
+
+        Assert.assertTrue(lastNames.hasWeights());
+        Assert.assertEquals(lastNames.getWeight(0), 2442977.0);
+        Assert.assertEquals(counts[0], 0);
+        Assert.assertEquals(counts[2] / (double) counts[1], 3.0, 0.2);
+    }
+
+    @Test
+    public void validateBulkGenerate_MatchesSingleCalls(){
+        LocaleContext locale = new LocaleContext(Countries.UKRAINE, Languages.UKRAINIAN);
+        Generator bulkGenerator = new Generator(locale, new Random(7));
+        Generator singleGenerator = new Generator(locale, new Random(7));
+        String[] fullNames = bulkGenerator.name().fullNames(50);
+        String[] passwords = bulkGenerator.credentials().passwords(50, 12, true, true, true);
+
+        for (int i = 0; i < fullNames.length; i++) {
+            Assert.assertEquals(fullNames[i], singleGenerator.name().fullName());
+        }
+
+        for (String password : passwords) {
+            Assert.assertEquals(password, singleGenerator.credentials().password(12, true, true, true));
+        }
+
+        Assert.assertTrue(bulkGenerator.email().emails(10, false, false, "@test.com")[9].endsWith("@test.com"));
+        Assert.assertEquals(new Generator(new Random(12)).email().emails(5, true, true)[4],
+                singleEmails(new Generator(new Random(12)), 5)[4]);
+    }
+
+    @Test
+    public void validateParallelGenerate_SameForAnyPool(){
+        ParallelGenerator generator = new Generator(new LocaleContext(Countries.UKRAINE, Languages.UKRAINIAN))
+                .parallel(11, 64);
+        List<String> records = generator.generate(1000,
+                gen -> gen.name().fullName() + gen.credentials().password(10, true, true, false));
+
+        Assert.assertEquals(records.size(), 1000);
+        Assert.assertEquals(generator.generate(1000,
+                gen -> gen.name().fullName() + gen.credentials().password(10, true, true, false),
+                new ForkJoinPool(1)), records);
+        Assert.assertEquals(generator.generate(1000,
+                gen -> gen.name().fullName() + gen.credentials().password(10, true, true, false),
+                new ForkJoinPool(4)), records);
+        Assert.assertNotNull(new Generator().parallel(11, 1 << 24).stream(Integer.MAX_VALUE, gen -> 0));
+    }
+
+    @Test
+    public void validateSeekableGenerate_RecordDependsOnIndexOnly(){
+        SeekableGenerator generator = new Generator(new LocaleContext(Countries.UKRAINE, Languages.UKRAINIAN))
+                .seekable(5);
+        List<String> slice = generator.slice(999_990, 1_000_000, gen -> gen.name().fullName()).toList();
+
+        Assert.assertEquals(generator.at(999_995).name().fullName(), slice.get(5));
+        Assert.assertEquals(generator.slice(999_990, 1_000_000, gen -> gen.name().fullName()).parallel()
+                .toList(), slice);
+        Assert.assertNotEquals(generator.at(0).credentials().password(16, true, true, true),
+                generator.at(1).credentials().password(16, true, true, true));
+    }
+
+    @Test
+    public void validateConcurrentGenerate_SharedGenerator() throws Exception {
+        Generator generator = Generator.concurrent(new LocaleContext(Countries.UKRAINE, Languages.UKRAINIAN));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        long hitsBefore = RequestExecutor.getDatasetCache().getHitCount();
+
+        try {
+            List<String> names = pool.submit(() -> IntStream.range(0, 4000).parallel()
+                    .mapToObj(i -> generator.name().fullName()).toList()).get();
+
+            Assert.assertEquals(names.size(), 4000);
+            Assert.assertFalse(names.contains(null));
+            Assert.assertTrue(RequestExecutor.getDatasetCache().getHitCount() - hitsBefore >= 7900);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void validateLocaleContext_InternedByOrdinal(){
+        LocaleContext locale = new LocaleContext(Countries.UKRAINE, Languages.ENGLISH);
+
+        Assert.assertSame(locale.intern(), LocaleContext.of(Countries.UKRAINE, Languages.ENGLISH));
+        Assert.assertNotEquals(new LocaleContext(Countries.UKRAINE), locale);
+        Assert.assertEquals(locale.hashCode(), locale.ordinal());
+        Assert.assertSame(SingletonLocaleContext.get(locale).getLocale(), locale.intern());
+        Assert.assertTrue(locale.ordinal() >= 0 && locale.ordinal() < LocaleContext.LOCALE_COUNT);
+    }
+
+    @Test
+    public void validateDatasetCache_EvictedKeyIsMiss(){
+        DatasetCache cache = new DatasetCache(2);
+        DatasetCache.DatasetKey key = new DatasetCache.DatasetKey(new LocaleContext(), "name", "/first");
+        Dataset dataset = new Dataset(new String[]{"values"}, new String[][]{{"a", "b"}});
 
+        cache.put(key, dataset);
+        Assert.assertSame(cache.get(key), dataset);
+
+        cache.put(new DatasetCache.DatasetKey(new LocaleContext(), "name", "/second"), dataset);
+        Assert.assertNull(cache.get(key));
+    }
+
+    @Test
+    public void validateDatasetCache_OversizedReplacementEvictsNothingElse(){
+        DatasetCache cache = new DatasetCache(4);
+        DatasetCache.DatasetKey firstKey = new DatasetCache.DatasetKey(new LocaleContext(), "name", "/first");
+        DatasetCache.DatasetKey secondKey = new DatasetCache.DatasetKey(new LocaleContext(), "name", "/second");
+        Dataset dataset = new Dataset(new String[]{"values"}, new String[][]{{"a", "b"}});
+
+        cache.put(firstKey, dataset);
+        cache.put(secondKey, dataset);
+
+        Assert.assertEquals(cache.replaceAll(Map.of(firstKey,
+                new Dataset(new String[]{"values"}, new String[][]{{"a", "b", "c", "d", "e"}}))), 1);
+        Assert.assertNull(cache.get(firstKey));
+        Assert.assertSame(cache.get(secondKey), dataset);
+        Assert.assertEquals(cache.getWeight(), 2L);
+        Assert.assertEquals(cache.getEvictionCount(), 0L);
+    }
+
+    @Test
+    public void validateRandomString_OverloadsMatchAndKeepPlacement(){
+        String expected = new RandomService(new Random(3)).randomString(12, true, true, true);
+        StringBuilder builder = new RandomService(new Random(3)).randomString(new StringBuilder(), 12, true, true, true);
+        byte[] bytes = new byte[12];
+        new RandomService(new Random(3)).randomString(bytes, 0, 12, true, true, true);
+
+        Assert.assertEquals(builder.toString(), expected);
+        Assert.assertEquals(new String(bytes, StandardCharsets.US_ASCII), expected);
+        Assert.assertTrue(expected.matches("[^a-zA-Z0-9].{6}[A-Z].{3}[0-9]"));
+    }
+
+    @Test
+    public void validateRandomEngine_ChosenByAlgorithm(){
+        LocaleContext locale = new LocaleContext(Countries.USA, Languages.ENGLISH);
+        Generator generator = Generator.of(locale, "L64X128MixRandom", 9);
+
+        Assert.assertEquals(generator.name().fullName(), Generator.of(locale, "L64X128MixRandom", 9)
+                .name().fullName());
+        Assert.assertNull(generator.random().getRand());
+        Assert.assertThrows(IllegalArgumentException.class, () -> RandomService.of("NoSuchRandom"));
+
+        generator.setCredentialsRandomService(RandomService.secure());
+        Assert.assertTrue(generator.credentials().getRandom().getGenerator() instanceof BufferedSecureRandom);
+    }
+
+    @Test
+    public void validateSecurePassword_UnbiasedBytes(){
+        BufferedSecureRandom random = new BufferedSecureRandom(new SecureRandom(), 64);
+        int[] counts = new int[89];
 
+        for (int i = 0; i < 89_000; i++) {
+            counts[random.nextInt(89)]++;
+        }
 
-}
\ No newline at end of file
+        for (int count : counts) {
+            Assert.assertTrue(count > 800 && count < 1200);
+        }
+
+        String[] passwords = GENERATOR.credentials().securePasswords(100, 12, true, true, true);
+        Assert.assertTrue(passwords[99].matches("[^a-zA-Z0-9].{6}[A-Z].{3}[0-9]"));
+    }
+
+    @Test
+    public void validateUniqueGenerate_NoDuplicates(){
+        Generator generator = new Generator(new LocaleContext(Countries.UKRAINE, Languages.UKRAINIAN), new Random(1));
+        UniqueSequence fullNames = generator.name().uniqueFullNames();
+        UniqueSequence passwords = generator.credentials().uniquePasswords(2, false, true, false);
+        Set<String> values = new HashSet<>();
+
+        while(fullNames.hasNext()){
+            Assert.assertTrue(values.add(fullNames.next()));
+        }
+
+        Assert.assertEquals(passwords.size(), 360L);
+        Assert.assertEquals(new HashSet<>(List.of(passwords.next(new String[360]))).size(), 360);
+        Assert.assertFalse(passwords.hasNext());
+        Assert.assertTrue(generator.email().uniqueEmails(false, false).next(new String[1000])[999]
+                .matches("[a-z]{8}@[a-z]{4}\\.com"));
+    }
+
+    @Test
+    public void validateUniqueNames_SourceWithDuplicates(){
+        UniqueSequence lastNames = new Generator(new LocaleContext(Countries.UKRAINE, Languages.ENGLISH),
+                new Random(1)).name().uniqueLastNames();
+        UniqueSequence fullNames = new Generator(new LocaleContext(Countries.USA, Languages.UKRAINIAN),
+                new Random(1)).name().uniqueFullNames();
+        Set<String> values = new HashSet<>();
+
+        Assert.assertEquals(lastNames.size(), 10L);
+        Assert.assertEquals(new HashSet<>(List.of(lastNames.next(new String[10]))).size(), 10);
+        Assert.assertFalse(lastNames.hasNext());
+
+        while(fullNames.hasNext()){
+            Assert.assertTrue(values.add(fullNames.next()));
+        }
+    }
+
+    @Test
+    public void validateIndexPermutation_IsBijection(){
+        IndexPermutation permutation = new IndexPermutation(1000, 17);
+        boolean[] visited = new boolean[1000];
+
+        for (int i = 0; i < 1000; i++) {
+            long index = permutation.get(i);
+            Assert.assertFalse(visited[(int) index]);
+            visited[(int) index] = true;
+        }
+
+        Supplier<String> distinct = UniqueSequence.distinct(() -> String.valueOf(GENERATOR.random().nextInt(50)),
+                50, 0.001);
+        Set<String> distinctValues = new HashSet<>();
+
+        for (int i = 0; i < 45; i++) {
+            Assert.assertTrue(distinctValues.add(distinct.get()));
+        }
+    }
+
+    @Test
+    public void validatePersonRecords_FieldsAreConsistent(){
+        PersonBatch translated = new Generator(new LocaleContext(Countries.UKRAINE, Languages.UKRAINIAN),
+                new Random(5)).person().persons(200);
+        PersonBatch english = new Generator(new LocaleContext(Countries.UKRAINE, Languages.ENGLISH),
+                new Random(5)).person().persons(200, "@test.com", 16);
+
+        for (int i = 0; i < translated.size(); i++) {
+            Assert.assertTrue(translated.getEmails()[i].matches("[A-Za-z'-]+_[A-Za-z'-]+@[a-z]{4}\\.com"));
+            Assert.assertTrue(translated.getEmails()[i].startsWith(english.getFirstNames()[i] + "_"
+                    + english.getLastNames()[i] + "@"));
+            Assert.assertEquals(english.getEmails()[i], english.getFirstNames()[i] + "_"
+                    + english.getLastNames()[i] + "@test.com");
+            Assert.assertEquals(translated.getPasswords()[i].length(), 12);
+            Assert.assertEquals(english.getPasswords()[i].length(), 16);
+        }
+    }
+
+    @Test
+    public void validateTemplate_RendersSegments(){
+        Template template = TemplateCompiler.compile("{first_name}.{last_name}{nn}@corp.test {{{AA}}}");
+        String[] values = GENERATOR.template().render(template, 100);
+
+        Assert.assertSame(TemplateCompiler.compile("{first_name}.{last_name}{nn}@corp.test {{{AA}}}"), template);
+        Assert.assertEquals(template.segmentCount(), 7);
+
+        for (String value : values) {
+            Assert.assertTrue(value.matches("[\\p{L}'-]+\\.[\\p{L}'-]+[0-9]{2}@corp\\.test \\{[A-Z]{2}}"), value);
+        }
+
+        Assert.assertEquals(new Generator(new Random(3)).template().render("{full_name}"),
+                new Generator(new Random(3)).template().render("{first_name} {last_name}"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> TemplateCompiler.compile("{first_name"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> TemplateCompiler.compile("{unknown}"));
+    }
+
+    @Test
+    public void validateRecordExporter_WritesCsvAndJsonLines() throws IOException {
+        PersonBatch batch = GENERATOR.person().persons(5000);
+        Path csv = Files.createTempFile("persons", ".csv");
+        Path jsonLines = Files.createTempFile("persons", ".jsonl.gz");
+
+        try (RecordExporter exporter = RecordExporter.csv(csv, "id", "comment")) {
+            exporter.writeRow("1", "plain");
+            exporter.writeRow("2", "with \"quotes\", comma\nand \uD83D\uDE00");
+            exporter.writeRow("3", null);
+        }
+
+        try (RecordExporter exporter = new RecordExporter(jsonLines, ExportFormat.JSON_LINES, true, 256,
+                PersonBatch.columnNames())) {
+            exporter.writeColumns(batch.columns());
+            Assert.assertEquals(exporter.getRowCount(), 5000L);
+        }
+
+        Assert.assertEquals(Files.readString(csv), "id,comment\n1,plain\n"
+                + "2,\"with \"\"quotes\"\", comma\nand \uD83D\uDE00\"\n3,\n");
+
+        try (InputStream input = new GZIPInputStream(Files.newInputStream(jsonLines))) {
+            String[] lines = new String(input.readAllBytes(), StandardCharsets.UTF_8).split("\n");
+            Assert.assertEquals(lines.length, 5000);
+            JsonNode last = new ObjectMapper().readTree(lines[4999]);
+            Assert.assertEquals(last.get("first_name").asText(), batch.getFirstNames()[4999]);
+            Assert.assertEquals(last.get("password").asText(), batch.getPasswords()[4999]);
+        } finally {
+            Files.delete(csv);
+            Files.delete(jsonLines);
+        }
+    }
+
+    @Test
+    public void validateRecordExporter_CsvValuesCrossBufferBoundary() throws IOException {
+        Path csv = Files.createTempFile("values", ".csv");
+        StringBuilder expected = new StringBuilder("id,comment\n");
+
+        try (RecordExporter exporter = new RecordExporter(csv, ExportFormat.CSV, false, 256, "id", "comment")) {
+            for (int row = 0; row < 200; row++) {
+                String comment = row % 2 == 0 ? "\"quoted\", row " + row : "\u0440\u044f\u0434\u043e\u043a " + row;
+                exporter.writeRow(String.valueOf(row), comment);
+                expected.append(row).append(',')
+                        .append(row % 2 == 0 ? "\"\"\"quoted\"\", row " + row + "\"" : comment).append('\n');
+            }
+        }
+
+        try {
+            Assert.assertEquals(Files.readString(csv), expected.toString());
+        } finally {
+            Files.delete(csv);
+        }
+    }
+
+    @Test
+    public void validatePreload_DatasetsAreCached(){
+        DatasetCache cache = RequestExecutor.getDatasetCache();
+        cache.clear();
+
+        Generator.preloadAndWait();
+        int cached = cache.size();
+        long misses = cache.getMissCount();
+
+        new Generator(new LocaleContext(Countries.UKRAINE, Languages.ENGLISH)).warmUpAndWait();
+        new Generator(new LocaleContext(Countries.USA, Languages.UKRAINIAN)).person().persons(10);
+
+        Assert.assertTrue(cached >= 2 * DatasetPreloader.getAllLocales().size());
+        Assert.assertEquals(cache.size(), cached);
+        Assert.assertEquals(cache.getMissCount(), misses);
+    }
+
+    @Test
+    public void validateDictionaryWatcher_ReloadsChangedFile() throws IOException, InterruptedException {
+        Generator generator = new Generator(new LocaleContext(Countries.UKRAINE, Languages.ENGLISH));
+        Path root = Files.createTempDirectory("faker_date");
+        Path file = Files.createDirectories(root.resolve("en/name")).resolve("ua_name.json");
+        Files.copy(Path.of("src/main/resources/faker_date/en/name/ua_name.json"), file);
+        generator.name().fullName();
+
+        try (DictionaryWatcher watcher = Generator.watchDictionaries(root)) {
+            Files.writeString(file, "{\"generator\": {\"first_name\": {\"female_first_name\": [\"Zoya\"], "
+                    + "\"male_first_name\": [\"Zenon\"]}, \"last_name\": {\"common_last_name\": [\"Zinchenko\"]}}}");
+
+            for (int i = 0; i < 200 && watcher.getReloadCount() == 0; i++) {
+                Thread.sleep(50);
+            }
+
+            Assert.assertEquals(watcher.getReloadCount(), 1L);
+            Assert.assertTrue(generator.name().fullName().matches("Z[a-z]+ Zinchenko"));
+            RequestExecutor.getDatasetCache().clear();
+            Assert.assertEquals(generator.name().lastName(), "Zinchenko");
+        } finally {
+            RequestExecutor.getDatasetCache().clear();
+            Files.delete(file);
+            Files.delete(file.getParent());
+            Files.delete(file.getParent().getParent());
+            Files.delete(root);
+        }
+
+        Assert.assertFalse(generator.name().lastName().equals("Zinchenko"));
+    }
+
+    @Test
+    public void validateName_PartsMatchFullName(){
+        LocaleContext locale = new LocaleContext(Countries.UKRAINE, Languages.ENGLISH);
+        Name[] names = new Generator(locale, new Random(8)).name().names(20);
+        Generator nameGenerator = new Generator(locale, new Random(8));
+        Generator fullNameGenerator = new Generator(locale, new Random(8));
+
+        for (Name name : names) {
+            String fullName = fullNameGenerator.name().fullName();
+
+            Assert.assertEquals(nameGenerator.name().name(), name);
+            Assert.assertEquals(name.fullName(), fullName);
+            Assert.assertEquals(name.getFirstName() + " " + name.getLastName(), fullName);
+            Assert.assertTrue(name.getCategory() == 0 || name.getCategory() == 1);
+        }
+
+        Assert.assertEquals(new Generator(locale, new Random(4)).email().getEmailWPersonName(".", "@corp.test"),
+                new Generator(locale, new Random(4)).name().name().join(".") + "@corp.test");
+    }
+
+    @Test
+    public void validateConstrainedNames_MatchOrFailFast(){
+        NameProvider translated = new Generator(new LocaleContext(Countries.UKRAINE, Languages.UKRAINIAN),
+                new Random(6)).name();
+        NameProvider english = new Generator(new LocaleContext(Countries.UKRAINE, Languages.ENGLISH),
+                new Random(6)).name();
+        ValueConstraint shortK = ValueConstraint.any().maxLength(6).startingWith('k');
+
+        for (int i = 0; i < 100; i++) {
+            String firstName = english.firstName(shortK);
+            Name name = english.name(ValueConstraint.any().minLength(7), ValueConstraint.any().startingWith('M'));
+
+            Assert.assertTrue(firstName.startsWith("K") && firstName.length() <= 6, firstName);
+            Assert.assertTrue(name.getFirstName().length() >= 7 && name.getLastName().startsWith("M"), name.toString());
+            Assert.assertTrue(translated.lastName(ValueConstraint.any().startingWith('\u041a')).startsWith("\u041a"));
+        }
+
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> translated.firstName(ValueConstraint.any().asciiOnly()));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> english.firstName(ValueConstraint.any().startingWith('Q').maxLength(1)));
+        Assert.assertThrows(IllegalArgumentException.class, () -> ValueConstraint.any().maxLength(3).minLength(4));
+    }
+
+    @Test
+    public void validateAlphabet_LocaleScriptStrings(){
+        LocaleContext locale = new LocaleContext(Countries.UKRAINE, Languages.UKRAINIAN);
+        Alphabet cyrillic = locale.getAlphabet();
+        String[] passwords = new Generator(locale, new Random(2)).credentials().localizedPasswords(50, 12, true, true,
+                true);
+        RandomService random = new RandomService(new Random(2));
+
+        Assert.assertSame(cyrillic, Alphabet.of(Languages.UKRAINIAN));
+        Assert.assertEquals(cyrillic.getLowerLetters().length(), 33);
+
+        for (String password : passwords) {
+            Assert.assertEquals(password, random.randomString(cyrillic, 12, true, true, true));
+            Assert.assertTrue(password.matches("[\\p{Punct}`][\\p{IsCyrillic}0-9\\p{Punct}]{10}[0-9]"), password);
+            Assert.assertTrue(Character.isUpperCase(password.charAt(7)), password);
+        }
+
+        Assert.assertEquals(new RandomService(new Random(7)).randomString(Alphabet.ASCII, 16, true, true, false),
+                new RandomService(new Random(7)).randomString(16, true, true, false));
+
+        Alphabet gothic = Alphabet.of(new String(Character.toChars(0x10330)) + new String(Character.toChars(0x10331)));
+        String gothicString = random.randomString(gothic, 8, true, false, true);
+
+        Assert.assertFalse(gothic.isBmp());
+        Assert.assertEquals(gothicString.codePointCount(0, gothicString.length()), 8);
+        Assert.assertTrue(gothicString.codePoints().allMatch(codePoint -> Character.isSupplementaryCodePoint(codePoint)
+                || codePoint < 0x80), gothicString);
+        Assert.assertThrows(IllegalArgumentException.class, () -> Alphabet.of("ab1"));
+    }
+
+    @Test
+    public void validateProviderRegistry_CachesProviders(){
+        Generator generator = new Generator(new LocaleContext(Countries.USA, Languages.ENGLISH), new Random(42));
+        NameProvider name = generator.name();
+
+        Assert.assertSame(generator.name(), name);
+        Assert.assertSame(generator.credentials().email(), generator.credentials().email());
+        Assert.assertSame(generator.provider(NameProvider.class), name);
+
+        ProviderRegistry.register(new GreetingProviderFactory());
+        GreetingProvider greeting = generator.provider(GreetingProvider.class);
+
+        Assert.assertSame(generator.provider(GreetingProvider.class), greeting);
+        Assert.assertTrue(greeting.greeting().startsWith("Hello, "));
+        Assert.assertThrows(IllegalArgumentException.class, () -> generator.provider(BaseProvider.class));
+
+        generator.setLocale(new LocaleContext(Countries.UKRAINE, Languages.ENGLISH));
+        Assert.assertNotSame(generator.name(), name);
+        Assert.assertEquals(generator.name().getLocale().getLocale().getCountry(), Countries.UKRAINE);
+    }
+
+    private static String[] singleEmails(Generator generator, int count){
+        String[] emails = new String[count];
+
+        for (int i = 0; i < count; i++) {
+            emails[i] = generator.email().getEmail(true, true);
+        }
+
+        return emails;
+    }
+
+    public static class GreetingProvider extends BaseProvider {
+        public GreetingProvider(SingletonLocaleContext locale, RandomService random) {
+            super(locale, random);
+        }
+
+        public String greeting(){
+            return "Hello, " + new NameProvider(getLocale(), getRandom()).firstName();
+        }
+    }
+
+    public static class GreetingProviderFactory implements ProviderFactory<GreetingProvider> {
+        @Override
+        public Class<GreetingProvider> getProviderClass() {
+            return GreetingProvider.class;
+        }
+
+        @Override
+        public GreetingProvider create(SingletonLocaleContext locale, RandomService random) {
+            return new GreetingProvider(locale, random);
+        }
+    }
+}